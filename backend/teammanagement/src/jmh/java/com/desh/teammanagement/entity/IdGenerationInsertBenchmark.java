@@ -0,0 +1,152 @@
+package com.desh.teammanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 100k member inserts through Hibernate with IDENTITY ids (one round-trip
+ * per row to read the key, no JDBC batching) against pooled SEQUENCE ids
+ * (one sequence call per 50 rows, batched inserts), as TeamMember used before
+ * and after the switch
+ *
+ * Same batch settings as application.properties and the import's 1000 rows
+ * per transaction, on an in-process H2 database. That has no network
+ * latency, so the gap against SQL Server, where each saved round-trip costs
+ * far more, is a lower bound.
+ *
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.args="IdGenerationInsert"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IdGenerationInsertBenchmark {
+
+    @Param({"IDENTITY", "SEQUENCE"})
+    String strategy;
+
+    @Param("100000")
+    int rows;
+
+    @Param("1000")
+    int rowsPerTransaction;
+
+    private SessionFactory sessionFactory;
+    private Supplier<BenchmarkMember> newMember;
+    private String table;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityMember.class)
+                .addAnnotatedClass(SequenceMember.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:insert-benchmark;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+        if ("IDENTITY".equals(strategy)) {
+            newMember = IdentityMember::new;
+            table = "IdentityMember";
+        } else {
+            newMember = SequenceMember::new;
+            table = "SequenceMember";
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyTable() {
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery("DELETE FROM " + table).executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void insert() {
+        for (int done = 0; done < rows; done += rowsPerTransaction) {
+            int from = done;
+            sessionFactory.inTransaction(session -> insertChunk(session, from));
+        }
+    }
+
+    private void insertChunk(Session session, int from) {
+        int to = Math.min(rows, from + rowsPerTransaction);
+        for (int i = from; i < to; i++) {
+            BenchmarkMember member = newMember.get();
+            member.fill(i);
+            session.persist(member);
+        }
+        session.flush();
+        session.clear();
+    }
+
+    @MappedSuperclass
+    public abstract static class BenchmarkMember {
+
+        @Column(nullable = false, length = 100)
+        String name;
+
+        @Column(nullable = false, length = 100, unique = true)
+        String email;
+
+        @Column(length = 50)
+        String role;
+
+        void fill(int i) {
+            name = "Member " + i;
+            email = "member" + i + "@example.com";
+            role = "Developer";
+        }
+    }
+
+    @Entity
+    @Table(name = "IdentityMember")
+    public static class IdentityMember extends BenchmarkMember {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+    }
+
+    @Entity
+    @Table(name = "SequenceMember")
+    public static class SequenceMember extends BenchmarkMember {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequence_member_seq")
+        @SequenceGenerator(name = "sequence_member_seq", sequenceName = "SequenceMember_SEQ", allocationSize = 50)
+        Long id;
+    }
+}
@@ -0,0 +1,130 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.dto.response.ProjectSummaryDTO;
+import com.desh.teammanagement.dto.response.TeamSummaryDTO;
+import com.desh.teammanagement.entity.Project;
+import com.desh.teammanagement.entity.Team;
+import com.desh.teammanagement.entity.TeamMember;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Detached entity graphs and services wired without Spring or a database
+ *
+ * The summary cache is warmed with every team and project, as it is in
+ * steady state, so the repositories are never called and can be null.
+ */
+final class BenchmarkFixtures {
+
+    private static final String[] ROLES = {"Developer", "Tester", "Designer", "Manager", "Analyst"};
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 15, 9, 30, 12, 345_000_000);
+
+    private final CaffeineCacheManager cacheManager;
+    final SummaryCacheService summaryCache;
+    final TeamService teamService;
+    final ProjectService projectService;
+    final TeamMemberService memberService;
+
+    BenchmarkFixtures() {
+        cacheManager = new CaffeineCacheManager(
+                SummaryCacheService.TEAM_SUMMARIES, SummaryCacheService.PROJECT_SUMMARIES);
+        cacheManager.setCacheSpecification("maximumSize=10000,recordStats");
+        summaryCache = new SummaryCacheService(cacheManager, null, null);
+        teamService = new TeamService(null, null, summaryCache, null, null);
+        projectService = new ProjectService(null, null, summaryCache, null, null);
+        memberService = new TeamMemberService(null, null, null, summaryCache, null, null, null);
+    }
+
+    /**
+     * Team 1 with the given number of members and projects
+     */
+    Team team(int memberCount, int projectCount) {
+        Team team = team(1L);
+        for (long i = 1; i <= memberCount; i++) {
+            TeamMember member = new TeamMember();
+            member.setId(i);
+            member.setName("Member " + i);
+            member.setEmail("member" + i + "@example.com");
+            member.setRole(ROLES[(int) (i % ROLES.length)]);
+            member.setCreatedAt(CREATED);
+            member.setUpdatedAt(CREATED);
+            team.addTeamMember(member);
+        }
+        for (long i = 1; i <= projectCount; i++) {
+            Project project = project(i);
+            project.getTeams().add(team);
+            team.getProjects().add(project);
+            cacheProject(project);
+        }
+        cacheTeam(team);
+        return team;
+    }
+
+    /**
+     * Project 1 linked to the given number of teams
+     */
+    Project project(int teamCount) {
+        Project project = project(1L);
+        for (long i = 1; i <= teamCount; i++) {
+            Team team = team(i);
+            project.getTeams().add(team);
+            cacheTeam(team);
+        }
+        cacheProject(project);
+        return project;
+    }
+
+    /**
+     * Configured like Spring Boot's auto-configured ObjectMapper
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private static Team team(long id) {
+        Team team = new Team();
+        team.setId(id);
+        team.setName("Team " + id);
+        team.setDescription("Description of team " + id);
+        team.setCreatedAt(CREATED);
+        team.setUpdatedAt(CREATED);
+        return team;
+    }
+
+    private static Project project(long id) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName("Project " + id);
+        project.setDescription("Description of project " + id);
+        project.setCreatedAt(CREATED);
+        project.setUpdatedAt(CREATED);
+        return project;
+    }
+
+    private void cacheTeam(Team team) {
+        cache(SummaryCacheService.TEAM_SUMMARIES).put(team.getId(), TeamSummaryDTO.builder()
+                .id(team.getId())
+                .name(team.getName())
+                .memberCount(team.getTeamMembers().size())
+                .build());
+    }
+
+    private void cacheProject(Project project) {
+        cache(SummaryCacheService.PROJECT_SUMMARIES).put(project.getId(), ProjectSummaryDTO.builder()
+                .id(project.getId())
+                .name(project.getName())
+                .teamCount(project.getTeams().size())
+                .build());
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
@@ -0,0 +1,71 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.dto.response.ProjectResponseDTO;
+import com.desh.teammanagement.dto.response.TeamMemberResponseDTO;
+import com.desh.teammanagement.dto.response.TeamResponseDTO;
+import com.desh.teammanagement.entity.Project;
+import com.desh.teammanagement.entity.Team;
+import com.desh.teammanagement.entity.TeamMember;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response DTO conversion, with team and project summaries served
+ * from a warm cache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ConversionBenchmark {
+
+    @Param("1000")
+    int teamMembers;
+
+    @Param("50")
+    int teamProjects;
+
+    @Param("200")
+    int projectTeams;
+
+    private BenchmarkFixtures fixtures;
+    private Team team;
+    private Project project;
+    private TeamMember member;
+
+    @Setup
+    public void setUp() {
+        fixtures = new BenchmarkFixtures();
+        team = fixtures.team(teamMembers, teamProjects);
+        project = fixtures.project(projectTeams);
+        member = team.getTeamMembers().iterator().next();
+    }
+
+    @Benchmark
+    public TeamResponseDTO teamDetailed() {
+        return fixtures.teamService.convertToDetailedResponseDTO(team);
+    }
+
+    @Benchmark
+    public ProjectResponseDTO project() {
+        return fixtures.projectService.convertToResponseDTO(project);
+    }
+
+    @Benchmark
+    public TeamMemberResponseDTO member() {
+        return fixtures.memberService.convertToResponseDTO(member);
+    }
+}
@@ -0,0 +1,73 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.dto.response.ProjectResponseDTO;
+import com.desh.teammanagement.dto.response.TeamResponseDTO;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the detailed team and project responses
+ *
+ * Output goes to a reused buffer, as it goes to the servlet response buffer,
+ * so the allocation rate is Jackson's own rather than a new byte[] per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SerializationBenchmark {
+
+    @Param("1000")
+    int teamMembers;
+
+    @Param("50")
+    int teamProjects;
+
+    @Param("200")
+    int projectTeams;
+
+    private ObjectWriter teamWriter;
+    private ObjectWriter projectWriter;
+    private TeamResponseDTO team;
+    private ProjectResponseDTO project;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256 * 1024);
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures();
+        team = fixtures.teamService.convertToDetailedResponseDTO(fixtures.team(teamMembers, teamProjects));
+        project = fixtures.projectService.convertToResponseDTO(fixtures.project(projectTeams));
+        teamWriter = BenchmarkFixtures.objectMapper().writerFor(TeamResponseDTO.class);
+        projectWriter = BenchmarkFixtures.objectMapper().writerFor(ProjectResponseDTO.class);
+    }
+
+    @Benchmark
+    public int team() throws IOException {
+        buffer.reset();
+        teamWriter.writeValue(buffer, team);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int project() throws IOException {
+        buffer.reset();
+        projectWriter.writeValue(buffer, project);
+        return buffer.size();
+    }
+}
@@ -0,0 +1,50 @@
+package com.desh.teammanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Throughput and latency percentiles per request type and in total
+ */
+final class LatencyReport {
+
+    private static final String ROW = "%-16s %9s %7s %7s %9s %9s %9s %9s %9s%n";
+
+    private LatencyReport() {
+    }
+
+    static void print(PrintStream out, LoadTestOptions options, List<LoadDriver.TypeStats> stats) {
+        double seconds = options.duration().toNanos() / 1e9;
+        out.printf("%nLoad: %s, %d s measured after %d s warmup%n%n",
+                options.describeLoad(), options.duration().toSeconds(), options.warmup().toSeconds());
+        out.printf(ROW, "request", "count", "errors", "dropped", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        long totalDropped = 0;
+        for (LoadDriver.TypeStats type : stats) {
+            Histogram histogram = type.histogram();
+            total.add(histogram);
+            totalErrors += type.errors.sum();
+            totalDropped += type.dropped.sum();
+            row(out, type.name, histogram, type.errors.sum(), type.dropped.sum(), seconds);
+        }
+        row(out, "total", total, totalErrors, totalDropped, seconds);
+    }
+
+    private static void row(PrintStream out, String name, Histogram histogram, long errors, long dropped,
+                            double seconds) {
+        out.printf(ROW, name, histogram.getTotalCount(), errors, dropped,
+                String.format("%.1f", histogram.getTotalCount() / seconds),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1e6);
+    }
+}
@@ -0,0 +1,174 @@
+package com.desh.teammanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays the request mix and records per request type latency histograms
+ *
+ * Closed loop: a fixed number of users, each sending its next request when
+ * the previous one has completed (plus think time). Throughput is whatever
+ * the server sustains; latency is service time.
+ *
+ * Open loop: requests start on a fixed schedule whether or not earlier ones
+ * have completed, like independent clients. Latency is measured from the
+ * scheduled start, so a stalled server shows up as queueing delay instead of
+ * being hidden by fewer requests (coordinated omission). Requests that would
+ * exceed max-in-flight are dropped and counted.
+ *
+ * Requests started during warmup are not recorded.
+ */
+class LoadDriver {
+
+    private final HttpClient client;
+    private final RequestMix mix;
+    private final LoadTestOptions options;
+    private final List<TypeStats> stats = new ArrayList<>();
+
+    private long measureStart;
+    private long end;
+
+    LoadDriver(RequestMix mix, LoadTestOptions options) {
+        this.mix = mix;
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool(daemon("http-client")))
+                .build();
+        for (String name : mix.names()) {
+            stats.add(new TypeStats(name));
+        }
+    }
+
+    List<TypeStats> run() throws InterruptedException {
+        long start = System.nanoTime();
+        measureStart = start + options.warmup().toNanos();
+        end = measureStart + options.duration().toNanos();
+        if (LoadTestOptions.CLOSED.equals(options.mode())) {
+            runClosedLoop();
+        } else {
+            runOpenLoop(start);
+        }
+        return stats;
+    }
+
+    private void runClosedLoop() throws InterruptedException {
+        ExecutorService users = Executors.newFixedThreadPool(options.users(), daemon("load-user"));
+        for (int i = 0; i < options.users(); i++) {
+            users.execute(this::closedLoopUser);
+        }
+        users.shutdown();
+        users.awaitTermination(end - System.nanoTime() + TimeUnit.MINUTES.toNanos(1), TimeUnit.NANOSECONDS);
+    }
+
+    private void closedLoopUser() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long thinkNanos = options.thinkTime().toNanos();
+        while (System.nanoTime() < end) {
+            int type = mix.next(random);
+            HttpRequest request = mix.request(type, random);
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+            } catch (IOException ex) {
+                ok = false;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            record(type, start, ok);
+            if (thinkNanos > 0) {
+                LockSupport.parkNanos(thinkNanos);
+            }
+        }
+    }
+
+    private void runOpenLoop(long start) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        long interval = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * interval;
+            if (scheduled >= end) {
+                break;
+            }
+            for (long wait; (wait = scheduled - System.nanoTime()) > 0; ) {
+                LockSupport.parkNanos(wait);
+            }
+
+            int type = mix.next(random);
+            if (!inFlight.tryAcquire()) {
+                if (scheduled >= measureStart) {
+                    stats.get(type).dropped.increment();
+                }
+                continue;
+            }
+            client.sendAsync(mix.request(type, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        inFlight.release();
+                        record(type, scheduled, ex == null && response.statusCode() < 400);
+                    });
+        }
+
+        // Let the requests still in flight complete and be recorded
+        inFlight.tryAcquire(options.maxInFlight(), 1, TimeUnit.MINUTES);
+    }
+
+    private void record(int type, long start, boolean ok) {
+        if (start < measureStart) {
+            return;
+        }
+        TypeStats typeStats = stats.get(type);
+        typeStats.latency.recordValue(System.nanoTime() - start);
+        if (!ok) {
+            typeStats.errors.increment();
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Latency (nanoseconds), error and drop counts of one request type
+     */
+    static final class TypeStats {
+
+        final String name;
+        final Recorder latency = new Recorder(3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+
+        TypeStats(String name) {
+            this.name = name;
+        }
+
+        // Everything recorded so far; call once, after the run
+        Histogram histogram() {
+            return latency.getIntervalHistogram();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.desh.teammanagement.loadtest;
+
+import com.desh.teammanagement.TeammanagementApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots the application on a random port against an in-memory H2 database,
+ * fills it with a synthetic organisation and replays a weighted request mix
+ *
+ *   ./mvnw -Ploadtest test-compile exec:exec
+ *   ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="--mode=open --rate=800 --members=50000"
+ *
+ * Options (defaults in brackets):
+ *   --teams [200] --members [20000] --projects [500] --link-density [0.02] --seed [42]
+ *   --mode=closed|open [closed] --users [50] --think-time [0ms] --rate [500] --max-in-flight [2000]
+ *   --warmup [10s] --duration [60s] --mix [see RequestMix]
+ *   --statement-latency [0ms] (see StatementLatencyInjector)
+ * Other --name=value arguments are application properties.
+ *
+ * Platform against virtual threads with a pool-bound database (build and
+ * run on Java 21, i.e. with -Pjava21,loadtest; run again with
+ * --spring.threads.virtual.enabled=true, and with --users=1000):
+ *   --statement-latency=20ms --spring.datasource.hikari.maximum-pool-size=10
+ *   --mix=members.get=1 --users=400 --warmup=5s --duration=10s
+ */
+public final class LoadHarness {
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        List<Class<?>> sources = new ArrayList<>(List.of(TeammanagementApplication.class, SyntheticOrgGenerator.class));
+        if (!options.statementLatency().isZero()) {
+            sources.add(StatementLatencyInjector.class);
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(sources.toArray(Class<?>[]::new))
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("loadTestOptions", options))
+                .run(applicationArgs(options));
+
+        int exitCode = 0;
+        try {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            RequestMix mix = new RequestMix(URI.create("http://localhost:" + port), options);
+            List<LoadDriver.TypeStats> stats = new LoadDriver(mix, options).run();
+            LatencyReport.print(System.out, options, stats);
+        } catch (RuntimeException ex) {
+            ex.printStackTrace();
+            exitCode = 1;
+        } finally {
+            SpringApplication.exit(context);
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Embedded database, random port, and none of the per-statement SQL
+     * logging application.properties turns on for development; passed as
+     * command line arguments to take precedence over application.properties,
+     * unless given on the command line already
+     */
+    private static String[] applicationArgs(LoadTestOptions options) {
+        List<String> args = new ArrayList<>();
+        embeddedProperties().forEach((name, value) -> {
+            if (options.applicationArgs().stream().noneMatch(arg -> arg.startsWith("--" + name + "="))) {
+                args.add("--" + name + "=" + value);
+            }
+        });
+        args.addAll(options.applicationArgs());
+        return args.toArray(String[]::new);
+    }
+
+    private static Map<String, Object> embeddedProperties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.jpa.properties.hibernate.format_sql", false);
+        properties.put("logging.level.com.desh.teammanagement", "INFO");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.level.org.springframework.data", "INFO");
+        properties.put("logging.level.org.springframework.transaction", "INFO");
+        return properties;
+    }
+}
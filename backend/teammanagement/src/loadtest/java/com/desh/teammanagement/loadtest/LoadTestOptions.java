@@ -0,0 +1,102 @@
+package com.desh.teammanagement.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of the load test, as --name=value
+ *
+ * Anything not listed here (e.g. --spring.threads.virtual.enabled=true or
+ * --spring.datasource.hikari.maximum-pool-size=20) is passed on to the
+ * application.
+ */
+record LoadTestOptions(
+        int teams,
+        int members,
+        int projects,
+        double linkDensity,
+        long seed,
+        String mode,
+        int users,
+        Duration thinkTime,
+        int rate,
+        int maxInFlight,
+        Duration warmup,
+        Duration duration,
+        Map<String, Integer> mix,
+        Duration statementLatency,
+        List<String> applicationArgs
+) {
+
+    static final String CLOSED = "closed";
+    static final String OPEN = "open";
+
+    private static final List<String> OPTION_NAMES = List.of(
+            "teams", "members", "projects", "link-density", "seed", "mode", "users", "think-time",
+            "rate", "max-in-flight", "warmup", "duration", "mix", "statement-latency");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String name = arg.startsWith("--") && eq > 2 ? arg.substring(2, eq) : null;
+            if (name != null && OPTION_NAMES.contains(name)) {
+                values.put(name, arg.substring(eq + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("teams", "200")),
+                Integer.parseInt(values.getOrDefault("members", "20000")),
+                Integer.parseInt(values.getOrDefault("projects", "500")),
+                Double.parseDouble(values.getOrDefault("link-density", "0.02")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.getOrDefault("mode", CLOSED),
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                DurationStyle.detectAndParse(values.getOrDefault("think-time", "0ms")),
+                Integer.parseInt(values.getOrDefault("rate", "500")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                RequestMix.parseWeights(values.get("mix")),
+                DurationStyle.detectAndParse(values.getOrDefault("statement-latency", "0ms")),
+                applicationArgs);
+        options.validate();
+        return options;
+    }
+
+    private void validate() {
+        if (teams < 1 || members < 1 || projects < 1) {
+            throw new IllegalArgumentException("teams, members and projects must be at least 1");
+        }
+        if (linkDensity < 0 || linkDensity > 1) {
+            throw new IllegalArgumentException("link-density must be between 0 and 1: " + linkDensity);
+        }
+        if (!CLOSED.equals(mode) && !OPEN.equals(mode)) {
+            throw new IllegalArgumentException("mode must be closed or open: " + mode);
+        }
+        if (users < 1 || rate < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("users, rate and max-in-flight must be at least 1");
+        }
+        if (statementLatency.isNegative()) {
+            throw new IllegalArgumentException("statement-latency must not be negative: " + statementLatency);
+        }
+    }
+
+    String describeLoad() {
+        String load = CLOSED.equals(mode)
+                ? "closed loop, " + users + " users, think time " + thinkTime.toMillis() + " ms"
+                : "open loop, " + rate + " requests/s, at most " + maxInFlight + " in flight";
+        return statementLatency.isZero()
+                ? load
+                : load + ", " + statementLatency.toMillis() + " ms simulated latency per statement";
+    }
+}
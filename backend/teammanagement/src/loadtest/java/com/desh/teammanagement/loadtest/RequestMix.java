@@ -0,0 +1,151 @@
+package com.desh.teammanagement.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Weighted mix of the /api/teams, /api/members and /api/projects endpoints,
+ * with ids, roles and search terms drawn from the synthetic organisation
+ *
+ * The default weights resemble dashboard traffic: mostly single-resource
+ * reads and filtered member queries, some list pages and searches, and a
+ * few member upserts (the HR sync). Override with
+ * --mix=members.get=50,projects.get=30,teams.list=20.
+ */
+class RequestMix {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Map<String, Integer> DEFAULT_WEIGHTS = defaultWeights();
+
+    private final List<String> names = new ArrayList<>();
+    private final List<Function<ThreadLocalRandom, HttpRequest>> factories = new ArrayList<>();
+    private final int[] cumulativeWeights;
+
+    RequestMix(URI baseUri, LoadTestOptions options) {
+        Map<String, Function<ThreadLocalRandom, HttpRequest>> all = requests(baseUri, options);
+        int total = 0;
+        List<Integer> cumulative = new ArrayList<>();
+        for (Map.Entry<String, Integer> weight : options.mix().entrySet()) {
+            if (weight.getValue() <= 0) {
+                continue;
+            }
+            total += weight.getValue();
+            names.add(weight.getKey());
+            factories.add(all.get(weight.getKey()));
+            cumulative.add(total);
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The request mix has no positive weights");
+        }
+        cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    List<String> names() {
+        return names;
+    }
+
+    /**
+     * Index of the next request type, by weight
+     */
+    int next(ThreadLocalRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Weight " + pick + " out of range");
+    }
+
+    HttpRequest request(int type, ThreadLocalRandom random) {
+        return factories.get(type).apply(random);
+    }
+
+    static Map<String, Integer> parseWeights(String mix) {
+        if (mix == null || mix.isBlank()) {
+            return DEFAULT_WEIGHTS;
+        }
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2 || !DEFAULT_WEIGHTS.containsKey(parts[0])) {
+                throw new IllegalArgumentException("Unknown mix entry '" + entry + "', expected one of "
+                        + DEFAULT_WEIGHTS.keySet() + " as name=weight");
+            }
+            weights.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+
+    private static Map<String, Integer> defaultWeights() {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("teams.list", 5);
+        weights.put("teams.page", 5);
+        weights.put("teams.get", 10);
+        weights.put("members.get", 20);
+        weights.put("members.query", 15);
+        weights.put("members.search", 10);
+        weights.put("projects.page", 5);
+        weights.put("projects.get", 15);
+        weights.put("projects.byTeam", 10);
+        weights.put("members.upsert", 5);
+        return weights;
+    }
+
+    private static Map<String, Function<ThreadLocalRandom, HttpRequest>> requests(URI base, LoadTestOptions o) {
+        Map<String, Function<ThreadLocalRandom, HttpRequest>> requests = new LinkedHashMap<>();
+        requests.put("teams.list", r -> get(base, "/api/teams"));
+        requests.put("teams.page", r -> get(base, "/api/teams/page?size=50"));
+        requests.put("teams.get", r -> get(base, "/api/teams/" + id(r, o.teams()) + "?includeMembers=true"));
+        requests.put("members.get", r -> get(base, "/api/members/" + id(r, o.members())));
+        requests.put("members.query", r -> get(base, "/api/members/query?size=50&role="
+                + encode(pick(r, SyntheticOrgGenerator.ROLES)) + "&teamId=" + id(r, o.teams())));
+        requests.put("members.search", r -> get(base, "/api/members/search?keyword="
+                + encode(pick(r, SyntheticOrgGenerator.LAST_NAMES))));
+        requests.put("projects.page", r -> get(base, "/api/projects/page?size=50"));
+        requests.put("projects.get", r -> get(base, "/api/projects/" + id(r, o.projects())));
+        requests.put("projects.byTeam", r -> get(base, "/api/projects/team/" + id(r, o.teams())));
+        requests.put("members.upsert", r -> {
+            long id = id(r, o.members());
+            String body = String.format("{\"name\":\"%s\",\"role\":\"%s\",\"teamId\":%d}",
+                    SyntheticOrgGenerator.memberName(id), pick(r, SyntheticOrgGenerator.ROLES), id(r, o.teams()));
+            return HttpRequest.newBuilder(base.resolve("/api/members/by-email/"
+                            + encode(SyntheticOrgGenerator.memberEmail(id))))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        });
+        return requests;
+    }
+
+    private static HttpRequest get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static long id(ThreadLocalRandom random, int count) {
+        return 1 + random.nextInt(count);
+    }
+
+    private static String pick(ThreadLocalRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,83 @@
+package com.desh.teammanagement.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Simulates a remote database on the embedded one: every statement execution
+ * first sleeps for --statement-latency, while holding its connection, as a
+ * network round-trip and server time would
+ *
+ * Wraps the pool before anything else does (concurrency limit, metering),
+ * so those see the latency like they would see a slow database.
+ */
+class StatementLatencyInjector implements BeanPostProcessor, Ordered {
+
+    private final long latencyNanos;
+
+    StatementLatencyInjector(LoadTestOptions options) {
+        this.latencyNanos = options.statementLatency().toNanos();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        return proxy(DataSource.class, dataSource);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private <T> T proxy(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        sleep();
+                    }
+                    Object result = invoke(method, target, args);
+                    return wrap(result);
+                }));
+    }
+
+    private Object wrap(Object result) {
+        if (result instanceof Connection connection) {
+            return proxy(Connection.class, connection);
+        }
+        if (result instanceof CallableStatement statement) {
+            return proxy(CallableStatement.class, statement);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement);
+        }
+        if (result instanceof Statement statement) {
+            return proxy(Statement.class, statement);
+        }
+        return result;
+    }
+
+    private void sleep() throws InterruptedException {
+        Thread.sleep(Duration.ofNanos(latencyNanos).toMillis(), (int) (latencyNanos % 1_000_000));
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.desh.teammanagement.loadtest;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the empty embedded database with a synthetic organisation: teams,
+ * members spread over them (a few unassigned), projects, and Project_Team
+ * links where each project/team pair is linked with probability linkDensity
+ *
+ * Runs as an ApplicationRunner, i.e. after Hibernate has created the schema
+ * but before ApplicationReadyEvent, so the search indexes and uniqueness
+ * filters load the generated data like they would load production data.
+ * Rows are inserted with JDBC batches and explicit ids; the id sequences are
+ * moved past them afterwards so writes through the API still work.
+ */
+class SyntheticOrgGenerator implements ApplicationRunner {
+
+    static final String[] ROLES = {"Developer", "Senior Developer", "Tester", "Designer", "Manager", "Analyst"};
+    static final String[] FIRST_NAMES = {"Anna", "Ben", "Chen", "Dilani", "Eva", "Farid", "Grace", "Hiro", "Ines",
+            "Jonas", "Kasun", "Lena", "Malik", "Nadia", "Oscar", "Priya", "Quinn", "Ravi", "Sara", "Tomas"};
+    static final String[] LAST_NAMES = {"Silva", "Perera", "Müller", "Nakamura", "Okafor", "Jensen", "Garcia",
+            "Novak", "Fernando", "Kowalski", "Haddad", "Larsen", "Costa", "Ivanova", "Walsh", "Bauer"};
+
+    private static final int BATCH_SIZE = 1000;
+    private static final double UNASSIGNED_SHARE = 0.05;
+    // Hibernate's pooled optimizer may hand out ids up to allocationSize below the sequence value
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbc;
+    private final LoadTestOptions options;
+
+    SyntheticOrgGenerator(JdbcTemplate jdbc, LoadTestOptions options) {
+        this.jdbc = jdbc;
+        this.options = options;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Random random = new Random(options.seed());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long start = System.nanoTime();
+
+        insert("INSERT INTO team (id, name, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                options.teams(), i -> new Object[]{i, teamName(i), "Synthetic team " + i, now, now});
+
+        insert("INSERT INTO team_member (id, name, email, role, team_id, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?)",
+                options.members(), i -> new Object[]{i, memberName(i), memberEmail(i),
+                        ROLES[random.nextInt(ROLES.length)],
+                        random.nextDouble() < UNASSIGNED_SHARE ? null : 1 + random.nextInt(options.teams()),
+                        now, now});
+
+        insert("INSERT INTO project (id, name, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                options.projects(), i -> new Object[]{i, "Project " + i, "Synthetic project " + i, now, now});
+
+        long links = 0;
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long project = 1; project <= options.projects(); project++) {
+            for (long team = 1; team <= options.teams(); team++) {
+                if (random.nextDouble() < options.linkDensity()) {
+                    batch.add(new Object[]{project, team});
+                    links++;
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    jdbc.batchUpdate("INSERT INTO project_team (project_id, team_id) VALUES (?, ?)", batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate("INSERT INTO project_team (project_id, team_id) VALUES (?, ?)", batch);
+        }
+
+        restartSequence("team_seq", options.teams());
+        restartSequence("team_member_seq", options.members());
+        restartSequence("project_seq", options.projects());
+
+        System.out.printf("Generated %d teams, %d members, %d projects and %d project-team links in %d ms%n",
+                options.teams(), options.members(), options.projects(), links,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    static String teamName(long id) {
+        return "Team " + id;
+    }
+
+    static String memberName(long id) {
+        return FIRST_NAMES[(int) (id % FIRST_NAMES.length)] + " "
+                + LAST_NAMES[(int) ((id / FIRST_NAMES.length) % LAST_NAMES.length)];
+    }
+
+    static String memberEmail(long id) {
+        return "member" + id + "@example.com";
+    }
+
+    private void insert(String sql, int count, RowValues values) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long i = 1; i <= count; i++) {
+            batch.add(values.of(i));
+            if (batch.size() == BATCH_SIZE || i == count) {
+                jdbc.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void restartSequence(String sequence, int maxId) {
+        jdbc.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 1 + SEQUENCE_ALLOCATION_SIZE));
+    }
+
+    @FunctionalInterface
+    private interface RowValues {
+        Object[] of(long id);
+    }
+}
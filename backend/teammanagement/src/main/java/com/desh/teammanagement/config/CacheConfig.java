@@ -0,0 +1,15 @@
+package com.desh.teammanagement.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns on Spring's cache support so Boot auto-configures the Caffeine
+ * CacheManager. Cache names, size bounds and stats are set in
+ * application.properties (spring.cache.*); hit/miss/eviction metrics
+ * are published per cache under /actuator/metrics/cache.*
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
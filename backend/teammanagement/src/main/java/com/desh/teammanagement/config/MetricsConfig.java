@@ -0,0 +1,66 @@
+package com.desh.teammanagement.config;
+
+import com.desh.teammanagement.metrics.HandlerMetricsInterceptor;
+import com.desh.teammanagement.metrics.MeteredDataSource;
+import com.desh.teammanagement.metrics.RequestIdFilter;
+import com.desh.teammanagement.metrics.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-endpoint latency and database-work metrics (see HandlerMetricsInterceptor),
+ * scraped from /actuator/prometheus, the Server-Timing response header
+ * (see ServerTimingAdvice), and the slow-query log (see SlowQueryLog)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    // Both the auto-configured pool and DataSourceRoutingConfig's router use this name
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerMetricsInterceptor(meterRegistry));
+    }
+
+    /**
+     * First filter, so every log line and slow query of the request can carry its id
+     */
+    @Bean
+    public FilterRegistrationBean<RequestIdFilter> requestIdFilter() {
+        FilterRegistrationBean<RequestIdFilter> registration = new FilterRegistrationBean<>(new RequestIdFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Not Ordered, so it runs after VirtualThreadConfig's limiter and the
+     * connection wait it measures includes waiting for a permit
+     */
+    @Bean
+    public static BeanPostProcessor meteredDataSource(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new MeteredDataSource(dataSource, SingletonSupplier.of(slowQueryLog::getIfAvailable));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.desh.teammanagement.config;
+
+import com.desh.teammanagement.datasource.ConcurrencyLimitingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Extra wiring for virtual-thread mode (spring.threads.virtual.enabled=true,
+ * Java 21+). Spring Boot itself moves Tomcat request handling, the
+ * application task executor and MVC async (streaming exports) onto virtual
+ * threads; this caps concurrent database work, which the Tomcat worker pool
+ * used to bound, at app.datasource.concurrency-limit.permits.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Both the auto-configured pool and DataSourceRoutingConfig's router use this name
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimit(Environment environment) {
+        return new ConcurrencyLimitPostProcessor(environment);
+    }
+
+    /**
+     * Ordered, so it wraps the data source before MetricsConfig's metering does
+     */
+    private record ConcurrencyLimitPostProcessor(Environment environment) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+            long poolTimeout = environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30_000L);
+            return new ConcurrencyLimitingDataSource(dataSource,
+                    environment.getProperty("app.datasource.concurrency-limit.permits", Integer.class, poolSize),
+                    environment.getProperty("app.datasource.concurrency-limit.acquire-timeout", Duration.class,
+                            Duration.ofMillis(poolTimeout)));
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
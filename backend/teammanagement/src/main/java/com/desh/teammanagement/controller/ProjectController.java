@@ -1,13 +1,16 @@
 package com.desh.teammanagement.controller;
 
 import com.desh.teammanagement.dto.request.ProjectRequestDTO;
+import com.desh.teammanagement.dto.response.CursorPageResponseDTO;
 import com.desh.teammanagement.dto.response.ProjectResponseDTO;
+import com.desh.teammanagement.service.ETagService;
 import com.desh.teammanagement.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +21,7 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ETagService eTagService;
 
     @PostMapping
     public ResponseEntity<ProjectResponseDTO> createProject(
@@ -27,14 +31,34 @@ public class ProjectController {
         return new ResponseEntity<>(createdProject, HttpStatus.CREATED);
     }
 
+    // List, page and by-ID responses carry an ETag; a matching If-None-Match gets 304 NOT MODIFIED
     @GetMapping
-    public ResponseEntity<List<ProjectResponseDTO>> getAllProjects() {
+    public ResponseEntity<List<ProjectResponseDTO>> getAllProjects(WebRequest request) {
+        if (request.checkNotModified(eTagService.collectionETag())) {
+            return null;
+        }
         List<ProjectResponseDTO> projects = projectService.getAllProjects();
         return ResponseEntity.ok(projects);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponseDTO<ProjectResponseDTO>> getProjectsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        if (request.checkNotModified(eTagService.collectionETag())) {
+            return null;
+        }
+        CursorPageResponseDTO<ProjectResponseDTO> page = projectService.getProjectsPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponseDTO> getProjectById(@PathVariable Long id) {
+    public ResponseEntity<ProjectResponseDTO> getProjectById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(eTagService.projectETag(id))) {
+            return null;
+        }
         ProjectResponseDTO project = projectService.getProjectById(id);
         return ResponseEntity.ok(project);
     }
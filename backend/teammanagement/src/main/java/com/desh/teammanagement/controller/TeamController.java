@@ -1,14 +1,27 @@
 package com.desh.teammanagement.controller;
 
 import com.desh.teammanagement.dto.request.TeamRequestDTO;
+import com.desh.teammanagement.dto.response.CursorPageResponseDTO;
 import com.desh.teammanagement.dto.response.TeamResponseDTO;
+import com.desh.teammanagement.exporter.CsvTeamExportWriter;
+import com.desh.teammanagement.exporter.TeamExportWriter;
+import com.desh.teammanagement.exporter.XlsxTeamExportWriter;
+import com.desh.teammanagement.service.ETagService;
+import com.desh.teammanagement.service.TeamExportService;
 import com.desh.teammanagement.service.TeamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -21,6 +34,10 @@ import java.util.List;
  * @RequestMapping: Sets base path for all endpoints in this controller
  * @RequiredArgsConstructor: Lombok generates constructor for dependency injection
  * @CrossOrigin: Allows requests from frontend (React/Angular) during development
+ *
+ * Conditional GET: list, page, by-ID and stats responses carry an ETag.
+ * Send it back in If-None-Match and an unchanged response is answered
+ * with 304 NOT MODIFIED and no body, after a single version query.
  */
 @RestController
 @RequestMapping("/api/teams")
@@ -30,6 +47,8 @@ public class TeamController {
 
     // Dependency injection - Spring automatically provides TeamService instance
     private final TeamService teamService;
+    private final TeamExportService exportService;
+    private final ETagService eTagService;
 
     // ============================================
     // CREATE - POST /api/teams
@@ -93,11 +112,20 @@ public class TeamController {
      * @GetMapping: Handles HTTP GET requests
      * @RequestParam: Extracts query parameters from URL
      *   Example: /api/teams?includeMembers=true
+     *
+     * ETag: weak, changes with any team, member or project
+     * WebRequest.checkNotModified: compares it with If-None-Match and, when
+     *   it matches, sets 304 NOT MODIFIED - returning null sends just that
      */
     @GetMapping
     public ResponseEntity<List<TeamResponseDTO>> getAllTeams(
-            @RequestParam(required = false, defaultValue = "false") boolean includeMembers
+            @RequestParam(required = false, defaultValue = "false") boolean includeMembers,
+            WebRequest request
     ) {
+        if (request.checkNotModified(eTagService.collectionETag())) {
+            return null; // 304 NOT MODIFIED
+        }
+
         List<TeamResponseDTO> teams;
 
         if (includeMembers) {
@@ -111,6 +139,37 @@ public class TeamController {
         return ResponseEntity.ok(teams); // 200 OK
     }
 
+    /**
+     * Get teams one page at a time (keyset pagination)
+     *
+     * Endpoint: GET http://localhost:8080/api/teams/page?size=50
+     * Next page: GET http://localhost:8080/api/teams/page?size=50&cursor=djE6NTA
+     * Response: 200 OK
+     * {
+     *   "items": [ { "id": 1, "name": "Engineering Team", ... }, ... ],
+     *   "size": 50,
+     *   "hasNext": true,
+     *   "nextCursor": "djE6NTA"
+     * }
+     *
+     * The cursor is opaque - send back the "nextCursor" from the previous page.
+     * Every page is an index seek on id, so page 1000 is as fast as page 1
+     * (unlike OFFSET paging, which reads and throws away all earlier rows).
+     * Size defaults to 50 and is capped at 500.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponseDTO<TeamResponseDTO>> getTeamsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        if (request.checkNotModified(eTagService.collectionETag())) {
+            return null;
+        }
+        CursorPageResponseDTO<TeamResponseDTO> page = teamService.getTeamsPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get team by ID
      *
@@ -127,12 +186,19 @@ public class TeamController {
      *
      * If team not found: Service throws ResourceNotFoundException
      * GlobalExceptionHandler catches it and returns 404 NOT FOUND
+     *
+     * ETag: strong, changes with the team, its members and its projects
      */
     @GetMapping("/{id}")
     public ResponseEntity<TeamResponseDTO> getTeamById(
             @PathVariable Long id,
-            @RequestParam(required = false, defaultValue = "false") boolean includeMembers
+            @RequestParam(required = false, defaultValue = "false") boolean includeMembers,
+            WebRequest request
     ) {
+        if (request.checkNotModified(eTagService.teamETag(id))) {
+            return null;
+        }
+
         TeamResponseDTO team;
 
         if (includeMembers) {
@@ -160,6 +226,64 @@ public class TeamController {
         return ResponseEntity.ok(teams);
     }
 
+    /**
+     * Export all teams, their members and project links as Excel
+     *
+     * Endpoint: GET http://localhost:8080/api/teams/export.xlsx
+     * Response: 200 OK, file download "teams.xlsx"
+     *   Sheet "Teams & Members": one row per member (teams without members get one row)
+     *   Sheet "Project Links":   one row per project/team link
+     *
+     * The file is written while rows are read from the database, so large
+     * organisations export without building everything in memory first.
+     */
+    @GetMapping("/export.xlsx")
+    public ResponseEntity<StreamingResponseBody> exportTeamsXlsx() {
+        return export("teams.xlsx",
+                MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+                XlsxTeamExportWriter::new);
+    }
+
+    /**
+     * Export all teams, their members and project links as CSV
+     *
+     * Endpoint: GET http://localhost:8080/api/teams/export.csv
+     * Response: 200 OK, file download "teams.csv"
+     *   Same rows as the Excel export in a single table: member rows leave the
+     *   project columns empty, project link rows leave the member columns empty.
+     */
+    @GetMapping("/export.csv")
+    public ResponseEntity<StreamingResponseBody> exportTeamsCsv() {
+        return export("teams.csv",
+                MediaType.parseMediaType("text/csv"),
+                CsvTeamExportWriter::new);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(
+            String filename,
+            MediaType mediaType,
+            ExportWriterFactory writerFactory
+    ) {
+        StreamingResponseBody body = out -> {
+            // close() also runs when the export fails, e.g. the client disconnects
+            try (TeamExportWriter writer = writerFactory.create(out)) {
+                exportService.exportTeams(writer);
+                writer.finish();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    @FunctionalInterface
+    private interface ExportWriterFactory {
+        TeamExportWriter create(OutputStream out) throws IOException;
+    }
+
     // ============================================
     // UPDATE - PUT /api/teams/{id}
     // ============================================
@@ -225,7 +349,10 @@ public class TeamController {
      * }
      */
     @GetMapping("/{id}/stats")
-    public ResponseEntity<TeamResponseDTO> getTeamStats(@PathVariable Long id) {
+    public ResponseEntity<TeamResponseDTO> getTeamStats(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(eTagService.teamETag(id))) {
+            return null;
+        }
         TeamResponseDTO team = teamService.getTeamById(id);
         return ResponseEntity.ok(team);
     }
@@ -1,20 +1,39 @@
 package com.desh.teammanagement.controller;
 
+import com.desh.teammanagement.dto.request.MemberUpsertRequestDTO;
 import com.desh.teammanagement.dto.request.TeamMemberRequestDTO;
+import com.desh.teammanagement.dto.response.CursorPageResponseDTO;
+import com.desh.teammanagement.dto.response.MemberImportResultDTO;
+import com.desh.teammanagement.dto.response.MemberQueryResponseDTO;
+import com.desh.teammanagement.dto.response.MemberSuggestionDTO;
+import com.desh.teammanagement.dto.response.MemberUpsertResultDTO;
 import com.desh.teammanagement.dto.response.TeamMemberResponseDTO;
+import com.desh.teammanagement.service.ETagService;
+import com.desh.teammanagement.service.MemberImportService;
 import com.desh.teammanagement.service.TeamMemberService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
  * TeamMemberController - REST API endpoints for TeamMember management
  *
  * Base URL: http://localhost:8080/api/members
+ *
+ * List, page and by-ID responses carry an ETag; with a matching
+ * If-None-Match they are answered with 304 NOT MODIFIED (see TeamController).
  */
 @RestController
 @RequestMapping("/api/members")
@@ -22,7 +41,12 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class TeamMemberController {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final TeamMemberService memberService;
+    private final MemberImportService importService;
+    private final ETagService eTagService;
+    private final ObjectMapper objectMapper;
 
     // ============================================
     // CREATE
@@ -47,6 +71,22 @@ public class TeamMemberController {
         return new ResponseEntity<>(createdMember, HttpStatus.CREATED);
     }
 
+    /**
+     * Bulk import members from a CSV or Excel (.xlsx) file
+     *
+     * POST http://localhost:8080/api/members/import
+     * Content-Type: multipart/form-data, part "file"
+     *
+     * First row is the header: name, email, role, teamId
+     * Valid rows are saved; invalid rows are skipped and listed in the
+     * response with their row number and the reason.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<MemberImportResultDTO> importMembers(@RequestParam("file") MultipartFile file) {
+        MemberImportResultDTO result = importService.importMembers(file);
+        return ResponseEntity.ok(result);
+    }
+
     // ============================================
     // READ
     // ============================================
@@ -57,18 +97,106 @@ public class TeamMemberController {
      * GET http://localhost:8080/api/members
      */
     @GetMapping
-    public ResponseEntity<List<TeamMemberResponseDTO>> getAllMembers() {
+    public ResponseEntity<List<TeamMemberResponseDTO>> getAllMembers(WebRequest request) {
+        if (request.checkNotModified(eTagService.collectionETag())) {
+            return null;
+        }
         List<TeamMemberResponseDTO> members = memberService.getAllMembers();
         return ResponseEntity.ok(members);
     }
 
+    /**
+     * Export all members as newline-delimited JSON (one member per line)
+     *
+     * GET http://localhost:8080/api/members
+     * Header: Accept: application/x-ndjson
+     *
+     * Rows are written to the response as they are read from the database,
+     * so memory use stays flat no matter how many members there are.
+     */
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMembers() {
+        ObjectWriter writer = objectMapper.writerFor(TeamMemberResponseDTO.class);
+
+        StreamingResponseBody body = out -> memberService.exportAllMembers(member -> {
+            try {
+                out.write(writer.writeValueAsBytes(member));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * Get members one page at a time (keyset pagination)
+     *
+     * GET http://localhost:8080/api/members/page?size=50
+     * GET http://localhost:8080/api/members/page?size=50&cursor={nextCursor}
+     *
+     * Pass the "nextCursor" of the previous response to get the next page.
+     * Size defaults to 50 and is capped at 500.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponseDTO<TeamMemberResponseDTO>> getMembersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        if (request.checkNotModified(eTagService.collectionETag())) {
+            return null;
+        }
+        CursorPageResponseDTO<TeamMemberResponseDTO> page = memberService.getMembersPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Filter members by any combination of fields, one page at a time
+     *
+     * GET http://localhost:8080/api/members/query?role=Developer&teamId=3
+     * GET http://localhost:8080/api/members/query?name=jo&sort=name&size=100
+     * GET http://localhost:8080/api/members/query?role=Developer&teamId=3&cursor={nextCursor}
+     * GET http://localhost:8080/api/members/query?name=jo&role=Developer&facets=true
+     *
+     * name and email match by prefix, role and teamId exactly; omitted
+     * filters are not applied. sort is id (default), name or email, with a
+     * leading "-" for descending. Send back the same filters and sort with
+     * the "nextCursor" of the previous response to get the next page.
+     *
+     * facets=true adds member counts per role and per team ("facets").
+     * Role counts apply every filter but role, team counts every filter but
+     * teamId, so they can label the alternatives of each filter.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<MemberQueryResponseDTO> queryMembers(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean facets
+    ) {
+        MemberQueryResponseDTO result =
+                memberService.queryMembers(name, email, role, teamId, sort, cursor, size, facets);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Get member by ID
      *
      * GET http://localhost:8080/api/members/1
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TeamMemberResponseDTO> getMemberById(@PathVariable Long id) {
+    public ResponseEntity<TeamMemberResponseDTO> getMemberById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(eTagService.memberETag(id))) {
+            return null;
+        }
         TeamMemberResponseDTO member = memberService.getMemberById(id);
         return ResponseEntity.ok(member);
     }
@@ -96,13 +224,40 @@ public class TeamMemberController {
     }
 
     /**
-     * Search members by name
+     * Autocomplete members by name or email prefix, best matches first
+     *
+     * GET http://localhost:8080/api/members/suggest?prefix=jo&limit=10
+     *
+     * Matches the start of the full name, of any later word of the name,
+     * or of the email. Limit defaults to 10 and is capped at 20.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<MemberSuggestionDTO>> suggestMembers(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit
+    ) {
+        List<MemberSuggestionDTO> suggestions = memberService.suggestMembers(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * Search members whose name, email or role contains the keyword
+     * (served from the in-memory search index)
      *
      * GET http://localhost:8080/api/members/search?keyword=john
+     * GET http://localhost:8080/api/members/search?keyword=jon%20smtih&fuzzy=true
+     *
+     * With fuzzy=true, names are matched word by word allowing typos
+     * (1 edit for words up to 4 letters, 2 beyond), closest matches first.
      */
     @GetMapping("/search")
-    public ResponseEntity<List<TeamMemberResponseDTO>> searchMembers(@RequestParam String keyword) {
-        List<TeamMemberResponseDTO> members = memberService.searchMembersByName(keyword);
+    public ResponseEntity<List<TeamMemberResponseDTO>> searchMembers(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "false") boolean fuzzy
+    ) {
+        List<TeamMemberResponseDTO> members = fuzzy
+                ? memberService.fuzzySearchMembersByName(keyword)
+                : memberService.searchMembersByName(keyword);
         return ResponseEntity.ok(members);
     }
 
@@ -130,6 +285,27 @@ public class TeamMemberController {
         return ResponseEntity.ok(updatedMember);
     }
 
+    /**
+     * Create or update member by email, in one statement
+     *
+     * PUT http://localhost:8080/api/members/by-email/john@example.com
+     * Body: {
+     *   "name": "John Doe",
+     *   "role": "Developer",
+     *   "teamId": 1
+     * }
+     * 201 Created with the new member, or 200 OK with the updated one.
+     * For directory syncs: no lookup by email is needed first.
+     */
+    @PutMapping("/by-email/{email}")
+    public ResponseEntity<TeamMemberResponseDTO> upsertMemberByEmail(
+            @PathVariable String email,
+            @Valid @RequestBody MemberUpsertRequestDTO requestDTO
+    ) {
+        MemberUpsertResultDTO result = memberService.upsertMemberByEmail(email, requestDTO);
+        return new ResponseEntity<>(result.getMember(), result.isCreated() ? HttpStatus.CREATED : HttpStatus.OK);
+    }
+
     /**
      * Assign member to team
      *
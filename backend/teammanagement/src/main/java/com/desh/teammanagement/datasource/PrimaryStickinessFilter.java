@@ -0,0 +1,53 @@
+package com.desh.teammanagement.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Binds ReplicaRoutingContext for each request, so a client that just wrote
+ * reads its own write: after a write transaction the response carries a
+ * cookie pinning that client's reads to the primary for the replica lag window
+ */
+@RequiredArgsConstructor
+public class PrimaryStickinessFilter extends OncePerRequestFilter {
+
+    private final Duration replicaMaxLag;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // A client can hold the cookie back but not stretch it past one window
+        long primaryUntil = Math.min(primaryUntil(request), System.currentTimeMillis() + replicaMaxLag.toMillis());
+        ReplicaRoutingContext.bind(primaryUntil, response, replicaMaxLag);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (ReplicaRoutingContext.COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
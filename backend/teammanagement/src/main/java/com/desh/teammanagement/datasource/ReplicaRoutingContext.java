@@ -0,0 +1,77 @@
+package com.desh.teammanagement.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.time.Duration;
+
+/**
+ * Per-thread state for read/write routing: whether reads must stay on the
+ * primary because this client wrote recently, and where to record a new write
+ *
+ * PrimaryStickinessFilter binds it for each request. Outside a request
+ * (startup loads, background work) nothing is bound and read-only
+ * transactions always go to the replica.
+ */
+public final class ReplicaRoutingContext {
+
+    public static final String COOKIE_NAME = "tm-primary-until";
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    static void bind(long primaryUntilMillis, HttpServletResponse response, Duration replicaMaxLag) {
+        CURRENT.set(new State(primaryUntilMillis, response, replicaMaxLag));
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * True while a write by this client may not have reached the replica yet
+     */
+    public static boolean isPinnedToPrimary() {
+        State state = CURRENT.get();
+        return state != null && state.primaryUntilMillis > System.currentTimeMillis();
+    }
+
+    /**
+     * Pin this request, and the client's next requests for the replica lag
+     * window, to the primary
+     */
+    public static void recordWrite() {
+        State state = CURRENT.get();
+        if (state == null) {
+            return;
+        }
+        long until = System.currentTimeMillis() + state.replicaMaxLag.toMillis();
+        if (until - state.primaryUntilMillis < 1000 && state.primaryUntilMillis > System.currentTimeMillis()) {
+            // Already pinned for (nearly) the whole window, skip resending the cookie
+            return;
+        }
+        state.primaryUntilMillis = until;
+        if (!state.response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, state.replicaMaxLag.toSeconds()));
+            state.response.addCookie(cookie);
+        }
+    }
+
+    private static final class State {
+
+        long primaryUntilMillis;
+        final HttpServletResponse response;
+        final Duration replicaMaxLag;
+
+        State(long primaryUntilMillis, HttpServletResponse response, Duration replicaMaxLag) {
+            this.primaryUntilMillis = primaryUntilMillis;
+            this.response = response;
+            this.replicaMaxLag = replicaMaxLag;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.desh.teammanagement.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of PUT /api/members/by-email/{email}: the email comes from the path
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberUpsertRequestDTO {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must not exceed 100 characters")
+    private String name;
+
+    @Size(max = 50, message = "Role must not exceed 50 characters")
+    private String role;
+
+    private Long teamId;
+}
@@ -0,0 +1,16 @@
+package com.desh.teammanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportRowErrorDTO {
+    private long rowNumber;
+    private String email;
+    private String message;
+}
@@ -0,0 +1,17 @@
+package com.desh.teammanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberFacetsDTO {
+    private List<RoleFacetDTO> roles;
+    private List<TeamFacetDTO> teams;
+}
@@ -0,0 +1,21 @@
+package com.desh.teammanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportResultDTO {
+
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private List<ImportRowErrorDTO> errors;
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,24 @@
+package com.desh.teammanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A page of GET /api/members/query, with facet counts when requested
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberQueryResponseDTO {
+
+    @JsonUnwrapped
+    private CursorPageResponseDTO<TeamMemberResponseDTO> page;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private MemberFacetsDTO facets;
+}
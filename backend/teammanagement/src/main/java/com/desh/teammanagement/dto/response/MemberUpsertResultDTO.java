@@ -0,0 +1,20 @@
+package com.desh.teammanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of an upsert by email: the member, and whether it was created
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberUpsertResultDTO {
+
+    private boolean created;
+
+    private TeamMemberResponseDTO member;
+}
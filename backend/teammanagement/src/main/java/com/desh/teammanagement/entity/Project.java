@@ -6,20 +6,31 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import com.desh.teammanagement.util.UniqueConstraints;
+import org.hibernate.Hibernate;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "Project")
+@Table(name = "Project", uniqueConstraints = {
+        @UniqueConstraint(name = UniqueConstraints.PROJECT_NAME, columnNames = "name")
+}, indexes = {
+        // MAX(updated_at) for collection ETags
+        @Index(name = "IX_Project_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Project {
 
+    // Pooled sequence (50 ids per round-trip) so inserts can be JDBC-batched;
+    // IDENTITY would force one round-trip per row to read the generated key
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Project name is required")
@@ -40,6 +51,7 @@ public class Project {
             joinColumns = @JoinColumn(name = "project_id"),
             inverseJoinColumns = @JoinColumn(name = "team_id")
     )
+    @ToString.Exclude
     private Set<Team> teams = new HashSet<>();
 
     @Column(name = "created_at", updatable = false)
@@ -59,13 +71,44 @@ public class Project {
         updatedAt = LocalDateTime.now();
     }
 
+    // Team.projects is the inverse side: keep it in sync only when it is
+    // already loaded, otherwise every link would fetch the team's projects.
+    // Project_Team rows have no timestamp, so a link change touches updatedAt
+    // (collection changes alone do not trigger @PreUpdate) and ETags move.
     public void addTeam(Team team) {
-        this.teams.add(team);
-        team.getProjects().add(this);
+        boolean added = this.teams.add(team);
+        if (Hibernate.isInitialized(team.getProjects())) {
+            team.getProjects().add(this);
+        }
+        if (added) {
+            updatedAt = LocalDateTime.now();
+        }
     }
 
     public void removeTeam(Team team) {
-        this.teams.remove(team);
-        team.getProjects().remove(this);
+        boolean removed = this.teams.remove(team);
+        if (Hibernate.isInitialized(team.getProjects())) {
+            team.getProjects().remove(this);
+        }
+        if (removed) {
+            updatedAt = LocalDateTime.now();
+        }
     }
-}
\ No newline at end of file
+
+    // Identity is the id alone, so an entity keeps its hash bucket in the
+    // association sets while its other fields (updatedAt included) change.
+    // Unsaved instances have no id and are only equal to themselves; the
+    // hash is constant so it survives the id being assigned on persist.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Project other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Project.class.hashCode();
+    }
+}
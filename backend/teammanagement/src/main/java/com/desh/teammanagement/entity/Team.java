@@ -6,6 +6,8 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import com.desh.teammanagement.util.UniqueConstraints;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 import java.time.LocalDateTime;
@@ -13,14 +15,22 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "Team")
+@Table(name = "Team", uniqueConstraints = {
+        @UniqueConstraint(name = UniqueConstraints.TEAM_NAME, columnNames = "name")
+}, indexes = {
+        // MAX(updated_at) for collection ETags
+        @Index(name = "IX_Team_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Team {
 
+    // Pooled sequence (50 ids per round-trip) so inserts can be JDBC-batched;
+    // IDENTITY would force one round-trip per row to read the generated key
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_seq")
+    @SequenceGenerator(name = "team_seq", sequenceName = "team_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Team name is required")
@@ -39,9 +49,11 @@ public class Team {
             fetch = FetchType.LAZY
     )
     @JsonManagedReference
+    @ToString.Exclude
     private Set<TeamMember> teamMembers = new HashSet<>();
 
     @ManyToMany(mappedBy = "teams", fetch = FetchType.LAZY)
+    @ToString.Exclude
     private Set<Project> projects = new HashSet<>();
 
     @Column(name = "created_at", updatable = false)
@@ -70,4 +82,21 @@ public class Team {
         teamMembers.remove(member);
         member.setTeam(null);
     }
-}
\ No newline at end of file
+
+    // Identity is the id alone, so an entity keeps its hash bucket in the
+    // association sets while its other fields (updatedAt included) change.
+    // Unsaved instances have no id and are only equal to themselves; the
+    // hash is constant so it survives the id being assigned on persist.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Team other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Team.class.hashCode();
+    }
+}
@@ -7,19 +7,33 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import com.desh.teammanagement.util.UniqueConstraints;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "TeamMember")
+@Table(name = "TeamMember", uniqueConstraints = {
+        @UniqueConstraint(name = UniqueConstraints.MEMBER_EMAIL, columnNames = "email")
+}, indexes = {
+        // Member query filters (role + team is the HR sync's hot path) and name ordering
+        @Index(name = "IX_TeamMember_team_role", columnList = "team_id, role"),
+        @Index(name = "IX_TeamMember_role", columnList = "role"),
+        @Index(name = "IX_TeamMember_name", columnList = "name"),
+        // MAX(updated_at) for collection ETags
+        @Index(name = "IX_TeamMember_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TeamMember {
 
+    // Pooled sequence (50 ids per round-trip) so inserts can be JDBC-batched;
+    // IDENTITY would force one round-trip per row to read the generated key
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_member_seq")
+    @SequenceGenerator(name = "team_member_seq", sequenceName = "team_member_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -30,7 +44,7 @@ public class TeamMember {
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
     @Size(max = 100, message = "Email must not exceed 100 characters")
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
 
     @Size(max = 50, message = "Role must not exceed 50 characters")
@@ -40,6 +54,7 @@ public class TeamMember {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     @JsonBackReference
+    @ToString.Exclude
     private Team team;
 
     @Column(name = "created_at", updatable = false)
@@ -58,4 +73,21 @@ public class TeamMember {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
-}
\ No newline at end of file
+
+    // Identity is the id alone, so an entity keeps its hash bucket in the
+    // association sets while its other fields (updatedAt included) change.
+    // Unsaved instances have no id and are only equal to themselves; the
+    // hash is constant so it survives the id being assigned on persist.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof TeamMember other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return TeamMember.class.hashCode();
+    }
+}
@@ -1,4 +1,4 @@
-package com.teammanagement.exception;
+package com.desh.teammanagement.exception;
 
 /**
  * Exception thrown when trying to create duplicate resource
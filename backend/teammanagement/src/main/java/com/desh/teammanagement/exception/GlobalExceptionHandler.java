@@ -1,4 +1,4 @@
-package com.teammanagement.exception;
+package com.desh.teammanagement.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
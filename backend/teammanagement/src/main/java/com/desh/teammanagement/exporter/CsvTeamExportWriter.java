@@ -0,0 +1,57 @@
+package com.desh.teammanagement.exporter;
+
+import com.desh.teammanagement.repository.projection.ProjectLinkExportRow;
+import com.desh.teammanagement.repository.projection.TeamMemberExportRow;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the export as a single CSV table, straight to the response.
+ *
+ * Member rows leave the project columns empty and project link rows leave
+ * the member columns empty, so the file filters cleanly in a spreadsheet.
+ */
+public class CsvTeamExportWriter implements TeamExportWriter {
+
+    private static final String[] HEADER = {
+            "team_id", "team_name", "team_description",
+            "member_id", "member_name", "member_email", "member_role",
+            "project_id", "project_name"
+    };
+
+    private final CSVPrinter printer;
+
+    public CsvTeamExportWriter(OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(HEADER).build());
+    }
+
+    @Override
+    public void writeTeamMember(TeamMemberExportRow row) throws IOException {
+        printer.printRecord(
+                row.getTeamId(), row.getTeamName(), row.getTeamDescription(),
+                row.getMemberId(), row.getMemberName(), row.getMemberEmail(), row.getMemberRole(),
+                null, null
+        );
+    }
+
+    @Override
+    public void writeProjectLink(ProjectLinkExportRow row) throws IOException {
+        printer.printRecord(
+                row.getTeamId(), row.getTeamName(), null,
+                null, null, null, null,
+                row.getProjectId(), row.getProjectName()
+        );
+    }
+
+    @Override
+    public void finish() throws IOException {
+        printer.flush();
+    }
+}
@@ -0,0 +1,31 @@
+package com.desh.teammanagement.exporter;
+
+import com.desh.teammanagement.repository.projection.ProjectLinkExportRow;
+import com.desh.teammanagement.repository.projection.TeamMemberExportRow;
+
+import java.io.IOException;
+
+/**
+ * Receives export rows one at a time and writes them to the response.
+ * All team/member rows come first, then all project links.
+ * Use in try-with-resources: close() runs whether or not the export finished.
+ */
+public interface TeamExportWriter extends AutoCloseable {
+
+    void writeTeamMember(TeamMemberExportRow row) throws IOException;
+
+    void writeProjectLink(ProjectLinkExportRow row) throws IOException;
+
+    /**
+     * Flush whatever is still buffered. Called once, after the last row.
+     */
+    void finish() throws IOException;
+
+    /**
+     * Release anything held for the export (e.g. temp files). Must not close
+     * the response stream and must be safe to call after finish().
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
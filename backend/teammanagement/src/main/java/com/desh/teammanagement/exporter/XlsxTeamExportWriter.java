@@ -0,0 +1,125 @@
+package com.desh.teammanagement.exporter;
+
+import com.desh.teammanagement.repository.projection.ProjectLinkExportRow;
+import com.desh.teammanagement.repository.projection.TeamMemberExportRow;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the export as an .xlsx workbook with POI's streaming (SXSSF) API.
+ *
+ * Only the last ROW_WINDOW rows of a sheet stay in memory; older rows are
+ * flushed to a compressed temp file, and the workbook is assembled into
+ * the response in finish(). close() deletes the temp files, also when the
+ * export fails part way. Sheets: "Teams & Members" and "Project Links".
+ * A sheet holds at most 1,048,576 rows, so rows past that continue on
+ * "Teams & Members (2)" and so on, each with its own header row.
+ */
+public class XlsxTeamExportWriter implements TeamExportWriter {
+
+    private static final int ROW_WINDOW = 100;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final SheetSeries memberSheets;
+    private final SheetSeries projectSheets;
+
+    public XlsxTeamExportWriter(OutputStream out) {
+        this(out, SpreadsheetVersion.EXCEL2007.getMaxRows());
+    }
+
+    XlsxTeamExportWriter(OutputStream out, int maxRowsPerSheet) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+
+        this.memberSheets = new SheetSeries("Teams & Members", maxRowsPerSheet,
+                "Team ID", "Team Name", "Team Description",
+                "Member ID", "Member Name", "Member Email", "Member Role");
+        this.projectSheets = new SheetSeries("Project Links", maxRowsPerSheet,
+                "Project ID", "Project Name", "Team ID", "Team Name");
+    }
+
+    @Override
+    public void writeTeamMember(TeamMemberExportRow row) {
+        writeRow(memberSheets.nextRow(),
+                row.getTeamId(), row.getTeamName(), row.getTeamDescription(),
+                row.getMemberId(), row.getMemberName(), row.getMemberEmail(), row.getMemberRole());
+    }
+
+    @Override
+    public void writeProjectLink(ProjectLinkExportRow row) {
+        writeRow(projectSheets.nextRow(),
+                row.getProjectId(), row.getProjectName(), row.getTeamId(), row.getTeamName());
+    }
+
+    @Override
+    public void finish() throws IOException {
+        workbook.write(out);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.close();
+        } finally {
+            workbook.dispose();
+        }
+    }
+
+    private void writeRow(Row row, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value instanceof Number number) {
+                row.createCell(i).setCellValue(number.doubleValue());
+            } else if (value != null) {
+                row.createCell(i).setCellValue(value.toString());
+            }
+        }
+    }
+
+    /**
+     * One logical sheet, split over as many sheets as the row limit needs.
+     * Continuation sheets are placed right after the previous part.
+     */
+    private class SheetSeries {
+
+        private final String baseName;
+        private final int maxRows;
+        private final String[] headers;
+        private SXSSFSheet sheet;
+        private int part;
+        private int rowIndex;
+
+        SheetSeries(String baseName, int maxRows, String... headers) {
+            this.baseName = baseName;
+            this.maxRows = maxRows;
+            this.headers = headers;
+            startSheet();
+        }
+
+        Row nextRow() {
+            if (rowIndex == maxRows) {
+                startSheet();
+            }
+            return sheet.createRow(rowIndex++);
+        }
+
+        private void startSheet() {
+            int previousIndex = sheet != null ? workbook.getSheetIndex(sheet) : -1;
+            part++;
+            sheet = workbook.createSheet(part == 1 ? baseName : baseName + " (" + part + ")");
+            if (previousIndex >= 0) {
+                workbook.setSheetOrder(sheet.getSheetName(), previousIndex + 1);
+            }
+            rowIndex = 0;
+            writeRow(sheet.createRow(rowIndex++), (Object[]) headers);
+        }
+    }
+}
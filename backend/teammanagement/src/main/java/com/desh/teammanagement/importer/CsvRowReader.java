@@ -0,0 +1,38 @@
+package com.desh.teammanagement.importer;
+
+import com.desh.teammanagement.exception.InvalidOperationException;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads a CSV file record by record - only the current row is held in memory
+ */
+public final class CsvRowReader {
+
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setIgnoreEmptyLines(true)
+            .setIgnoreSurroundingSpaces(true)
+            .build();
+
+    private CsvRowReader() {
+    }
+
+    public static void read(InputStream in, ImportRowHandler handler) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try (CSVParser parser = CSVParser.parse(reader, FORMAT)) {
+            for (CSVRecord record : parser) {
+                handler.onRow(record.getRecordNumber(), record.toList());
+            }
+        } catch (UncheckedIOException | IllegalStateException ex) {
+            throw new InvalidOperationException("Malformed CSV file: " + ex.getMessage(), ex);
+        }
+    }
+}
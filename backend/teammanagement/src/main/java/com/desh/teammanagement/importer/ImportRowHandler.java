@@ -0,0 +1,16 @@
+package com.desh.teammanagement.importer;
+
+import java.util.List;
+
+/**
+ * Receives rows one at a time from a streaming file reader
+ */
+@FunctionalInterface
+public interface ImportRowHandler {
+
+    /**
+     * @param rowNumber 1-based row number as the user sees it in the file
+     * @param cells     cell values in column order (blank cells as "")
+     */
+    void onRow(long rowNumber, List<String> cells);
+}
@@ -0,0 +1,96 @@
+package com.desh.teammanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per controller method meters, tagged handler=TeamController.getAllTeams etc.:
+ *
+ *   app.handler.duration            request latency (histogram)
+ *   app.handler.db.statements       statements executed per request (histogram)
+ *   app.handler.db.rows             result set rows read per request (histogram)
+ *   app.handler.db.connection.wait  time waiting for connections per request (histogram)
+ *
+ * Histograms use Micrometer's fixed bucket layout, so they aggregate across
+ * instances and can be turned into any percentile by the scraper.
+ */
+@RequiredArgsConstructor
+public class HandlerMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = HandlerMetricsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            // Runs again on the ASYNC dispatch of a streaming response: keep the original start
+            if (request.getAttribute(START_ATTRIBUTE) == null) {
+                request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            }
+            RequestDbStats.bind(handlerName(method), RequestIdFilter.requestId(request));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // Streaming work continues on another thread and is not attributed to the request
+        RequestDbStats.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestDbStats stats = RequestDbStats.current();
+        RequestDbStats.clear();
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod) || stats == null || start == null) {
+            return;
+        }
+
+        String name = stats.getHandler();
+        Timer.builder("app.handler.duration")
+                .description("Request latency per controller method")
+                .tag("handler", name)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(System.nanoTime() - (long) start, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("app.handler.db.statements")
+                .description("JDBC statements executed per request")
+                .tag("handler", name)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("app.handler.db.rows")
+                .description("Result set rows read per request")
+                .tag("handler", name)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.getRows());
+        Timer.builder("app.handler.db.connection.wait")
+                .description("Time spent waiting for database connections per request")
+                .tag("handler", name)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.getConnectionWaitNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    static String handlerName(HandlerMethod method) {
+        return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+    }
+
+    static long startNanos(HttpServletRequest request) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        return start != null ? (long) start : System.nanoTime();
+    }
+}
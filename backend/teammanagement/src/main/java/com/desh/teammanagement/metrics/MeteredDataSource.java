@@ -0,0 +1,145 @@
+package com.desh.teammanagement.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * Counts the current request's JDBC work into RequestDbStats: time to get a
+ * connection, each statement execution (a batch counts once) with its
+ * duration, and each row read from a result set. Every statement's SQL and
+ * duration also goes to SlowQueryLog, on any thread.
+ *
+ * Connections, statements and result sets are wrapped in JDK proxies that
+ * only do bookkeeping; with no request bound only SlowQueryLog sees them.
+ * Behind a LazyConnectionDataSourceProxy (replica routing) the pool wait
+ * happens at the first statement and is counted as part of it.
+ */
+public class MeteredDataSource extends DelegatingDataSource {
+
+    // Resolved lazily: the data source is created before the rest of the context
+    private final Supplier<SlowQueryLog> slowQueryLog;
+
+    public MeteredDataSource(DataSource target, Supplier<SlowQueryLog> slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        return meter(connection, start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        return meter(connection, start);
+    }
+
+    private Connection meter(Connection connection, long start) {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.connectionAcquired(System.nanoTime() - start);
+        }
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            // prepareStatement / prepareCall take the SQL up front, createStatement at execution
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            if (result instanceof CallableStatement statement) {
+                return meter(CallableStatement.class, statement, sql);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return meter(PreparedStatement.class, statement, sql);
+            }
+            if (result instanceof Statement statement) {
+                return meter(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S meter(Class<S> type, S statement, String preparedSql) {
+        return proxy(type, statement, (method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return wrapResultSet(invoke(statement, method, args));
+            }
+            long start = System.nanoTime();
+            try {
+                return wrapResultSet(invoke(statement, method, args));
+            } finally {
+                long nanos = System.nanoTime() - start;
+                RequestDbStats stats = RequestDbStats.current();
+                if (stats != null) {
+                    stats.statementExecuted(nanos);
+                }
+                SlowQueryLog log = slowQueryLog.get();
+                if (log != null) {
+                    log.statementExecuted(args != null && args.length > 0 && args[0] instanceof String sql
+                            ? sql : preparedSql, nanos);
+                }
+            }
+        });
+    }
+
+    private static Object wrapResultSet(Object result) {
+        if (!(result instanceof ResultSet resultSet)) {
+            return result;
+        }
+        return proxy(ResultSet.class, resultSet, (method, args) -> {
+            Object value = invoke(resultSet, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(value)) {
+                RequestDbStats stats = RequestDbStats.current();
+                if (stats != null) {
+                    stats.rowRead();
+                }
+            }
+            return value;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return handler.handle(method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
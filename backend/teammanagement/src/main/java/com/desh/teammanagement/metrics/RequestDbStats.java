@@ -0,0 +1,81 @@
+package com.desh.teammanagement.metrics;
+
+/**
+ * JDBC work done by the current request: statements executed, rows read
+ * from result sets, and time spent executing statements and waiting for
+ * connections, plus the handler and request id slow statements are logged with
+ *
+ * Bound per request by HandlerMetricsInterceptor and fed by MeteredDataSource.
+ * Work on other threads (streaming exports, startup loads) is not counted.
+ */
+public final class RequestDbStats {
+
+    private static final ThreadLocal<RequestDbStats> CURRENT = new ThreadLocal<>();
+
+    private final String handler;
+    private final String requestId;
+
+    private int statements;
+    private long rows;
+    private long executeNanos;
+    private long connectionWaitNanos;
+
+    private RequestDbStats(String handler, String requestId) {
+        this.handler = handler;
+        this.requestId = requestId;
+    }
+
+    static RequestDbStats bind(String handler, String requestId) {
+        RequestDbStats stats = new RequestDbStats(handler, requestId);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats of the current request, or null outside one
+     */
+    public static RequestDbStats current() {
+        return CURRENT.get();
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        executeNanos += nanos;
+    }
+
+    void rowRead() {
+        rows++;
+    }
+
+    void connectionAcquired(long waitNanos) {
+        connectionWaitNanos += waitNanos;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getExecuteNanos() {
+        return executeNanos;
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+}
@@ -0,0 +1,50 @@
+package com.desh.teammanagement.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Adds a Server-Timing header to every JSON response, just before the body
+ * is written (when the handler's database work is done):
+ *
+ *   Server-Timing: app;dur=12.4, db;dur=8.1;desc="3 statements, 40 rows", conn;dur=0.2
+ *
+ * Browser dev tools show these per request next to the network timings.
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null && request instanceof ServletServerHttpRequest servletRequest) {
+            long elapsed = System.nanoTime() - HandlerMetricsInterceptor.startNanos(servletRequest.getServletRequest());
+            response.getHeaders().add(HEADER, String.format(Locale.ROOT,
+                    "app;dur=%.1f, db;dur=%.1f;desc=\"%d statements, %d rows\", conn;dur=%.1f",
+                    millis(elapsed), millis(stats.getExecuteNanos()), stats.getStatements(), stats.getRows(),
+                    millis(stats.getConnectionWaitNanos())));
+        }
+        return body;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
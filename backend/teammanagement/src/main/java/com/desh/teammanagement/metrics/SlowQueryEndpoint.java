@@ -0,0 +1,39 @@
+package com.desh.teammanagement.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/slowqueries: the slowest recently logged statements
+ * (?limit=N, default all buffered) and the capture counters.
+ * DELETE clears the buffer, e.g. before reproducing a problem.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    @ReadOperation
+    public SlowQueryReport slowQueries(@Nullable Integer limit) {
+        int size = limit != null && limit > 0 ? limit : slowQueryLog.getBufferSize();
+        return new SlowQueryReport(slowQueryLog.getThreshold().toMillis(), slowQueryLog.getSampleRate(),
+                slowQueryLog.getCaptured(), slowQueryLog.getDropped(), slowQueryLog.slowest(size));
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+
+    public record SlowQueryReport(long thresholdMs, int sampleRate, long captured, long dropped,
+                                  List<SlowQueryLog.SlowQuery> queries) {
+    }
+}
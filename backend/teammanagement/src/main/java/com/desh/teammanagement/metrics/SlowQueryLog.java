@@ -0,0 +1,160 @@
+package com.desh.teammanagement.metrics;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Logs statements slower than app.slow-query.threshold, plus one in
+ * app.slow-query.sample-rate of all statements, with the controller method
+ * and request id they ran for (see RequestDbStats), and keeps the most recent
+ * slow ones for /actuator/slowqueries
+ *
+ * Statements are timed by MeteredDataSource. Log lines are written on a
+ * single background thread so a burst of slow statements never blocks
+ * request threads; when its queue is full entries are dropped and counted.
+ * Bind parameters are not captured.
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    private static final int MAX_SQL_LENGTH = 4000;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long thresholdNanos;
+    private final int sampleRate;
+    private final int bufferSize;
+    private final ThreadPoolExecutor writer;
+    private final Deque<SlowQuery> recent;
+    private final AtomicLong captured = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public SlowQueryLog(@Value("${app.slow-query.threshold:500ms}") Duration threshold,
+                        @Value("${app.slow-query.sample-rate:0}") int sampleRate,
+                        @Value("${app.slow-query.buffer-size:100}") int bufferSize,
+                        @Value("${app.slow-query.queue-size:1000}") int queueSize) {
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.bufferSize = bufferSize;
+        this.recent = new ArrayDeque<>(bufferSize);
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-log");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Called on the executing thread after every statement; cheap unless the
+     * statement is slow or sampled
+     */
+    public void statementExecuted(String sql, long nanos) {
+        boolean slow = nanos >= thresholdNanos;
+        boolean sampled = !slow && sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+        if (!slow && !sampled) {
+            return;
+        }
+        RequestDbStats stats = RequestDbStats.current();
+        SlowQuery query = new SlowQuery(Instant.now(), nanos / 1_000_000.0, compact(sql),
+                stats != null ? stats.getHandler() : null,
+                stats != null ? stats.getRequestId() : null,
+                Thread.currentThread().getName(), sampled);
+        captured.incrementAndGet();
+        try {
+            writer.execute(() -> write(query));
+        } catch (RejectedExecutionException ex) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void write(SlowQuery query) {
+        if (query.sampled()) {
+            log.info("Sampled query {} ms [handler={}, requestId={}, thread={}]: {}",
+                    query.durationMs(), query.handler(), query.requestId(), query.thread(), query.sql());
+            return;
+        }
+        log.warn("Slow query {} ms [handler={}, requestId={}, thread={}]: {}",
+                query.durationMs(), query.handler(), query.requestId(), query.thread(), query.sql());
+        synchronized (recent) {
+            if (recent.size() == bufferSize) {
+                recent.removeFirst();
+            }
+            recent.addLast(query);
+        }
+    }
+
+    /**
+     * Slowest of the recently captured slow statements, slowest first
+     */
+    public List<SlowQuery> slowest(int limit) {
+        synchronized (recent) {
+            return recent.stream()
+                    .sorted(Comparator.comparingDouble(SlowQuery::durationMs).reversed())
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    public void clear() {
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    public Duration getThreshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public long getCaptured() {
+        return captured.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writer.shutdown();
+    }
+
+    /**
+     * One line (format_sql spreads statements over several), at most MAX_SQL_LENGTH chars
+     */
+    private static String compact(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String line = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+        return line.length() <= MAX_SQL_LENGTH ? line : line.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    public record SlowQuery(Instant time, double durationMs, String sql, String handler, String requestId,
+                            String thread, boolean sampled) {
+    }
+}
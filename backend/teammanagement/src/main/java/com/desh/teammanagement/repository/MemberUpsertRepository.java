@@ -0,0 +1,15 @@
+package com.desh.teammanagement.repository;
+
+import com.desh.teammanagement.repository.projection.MemberUpsertRow;
+
+/**
+ * Insert-or-update of a member keyed by email (implemented by MemberUpsertRepositoryImpl)
+ */
+public interface MemberUpsertRepository {
+
+    /**
+     * Create the member with this email, or overwrite the name, role and
+     * team of the existing one. The email is stored as given either way.
+     */
+    MemberUpsertRow upsertByEmail(String email, String name, String role, Long teamId);
+}
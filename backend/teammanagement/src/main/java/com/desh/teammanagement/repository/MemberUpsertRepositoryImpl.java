@@ -0,0 +1,129 @@
+package com.desh.teammanagement.repository;
+
+import com.desh.teammanagement.entity.Team;
+import com.desh.teammanagement.entity.TeamMember;
+import com.desh.teammanagement.repository.projection.MemberUpsertRow;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+class MemberUpsertRepositoryImpl implements MemberUpsertRepository {
+
+    /*
+     * One round-trip on SQL Server. HOLDLOCK keeps the key range locked
+     * between the match and the insert, so two concurrent upserts of a new
+     * email cannot both take the insert branch. The id for the insert branch
+     * comes from TeamMember's own pooled generator (see nextMemberId); when
+     * the row already exists that one id is simply unused. NOCOUNT keeps row
+     * counts from arriving ahead of the OUTPUT rows and is restored for the
+     * pooled connection's next user. %s is the physical table name, which the
+     * naming strategy derives from @Table (team_member, not TeamMember).
+     */
+    private static final String SQL_SERVER_MERGE = """
+            SET NOCOUNT ON;
+            MERGE %s WITH (HOLDLOCK) AS target
+            USING (SELECT :email AS email) AS source
+            ON target.email = source.email
+            WHEN MATCHED THEN
+                UPDATE SET email = :email, name = :name, role = :role, team_id = :teamId, updated_at = :now
+            WHEN NOT MATCHED THEN
+                INSERT (id, name, email, role, team_id, created_at, updated_at)
+                VALUES (:id, :name, :email, :role, :teamId, :now, :now)
+            OUTPUT $action AS action, inserted.id AS id, inserted.created_at AS created_at,
+                   inserted.updated_at AS updated_at, deleted.team_id AS previous_team_id;
+            SET NOCOUNT OFF;
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public MemberUpsertRow upsertByEmail(String email, String name, String role, Long teamId) {
+        return isSqlServer()
+                ? merge(email, name, role, teamId)
+                : findThenWrite(email, name, role, teamId);
+    }
+
+    private MemberUpsertRow merge(String email, String name, String role, Long teamId) {
+        Object[] row = (Object[]) entityManager.createNativeQuery(mergeStatement())
+                .unwrap(NativeQuery.class)
+                .setParameter("id", nextMemberId(), Long.class)
+                .setParameter("email", email)
+                .setParameter("name", name)
+                .setParameter("role", role)
+                .setParameter("teamId", teamId, Long.class)
+                .setParameter("now", LocalDateTime.now())
+                .addScalar("action", String.class)
+                .addScalar("id", Long.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("previous_team_id", Long.class)
+                .getSingleResult();
+        return new MemberUpsertRow((Long) row[1], "INSERT".equals(row[0]),
+                (LocalDateTime) row[2], (LocalDateTime) row[3], (Long) row[4]);
+    }
+
+    String mergeStatement() {
+        String table = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(TeamMember.class)
+                .getMappedTableDetails()
+                .getTableName();
+        return SQL_SERVER_MERGE.formatted(table);
+    }
+
+    /**
+     * An id from the same pooled block persist() draws from. Taking
+     * NEXT VALUE FOR team_member_seq directly would reserve a whole block of
+     * allocationSize ids for every upsert, existing member or not.
+     */
+    private Long nextMemberId() {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(TeamMember.class)
+                .getGenerator();
+        return (Long) generator.generate(session, null);
+    }
+
+    /**
+     * Portable fallback for other databases (the embedded test database):
+     * a lookup and then an insert or update through JPA. Two concurrent
+     * first upserts of the same email race here, and the loser gets the
+     * unique constraint violation.
+     */
+    private MemberUpsertRow findThenWrite(String email, String name, String role, Long teamId) {
+        List<TeamMember> existing = entityManager
+                .createQuery("SELECT m FROM TeamMember m WHERE m.email = :email", TeamMember.class)
+                .setParameter("email", email)
+                .getResultList();
+
+        TeamMember member = existing.isEmpty() ? new TeamMember() : existing.get(0);
+        Long previousTeamId = member.getTeam() != null ? member.getTeam().getId() : null;
+        member.setEmail(email);
+        member.setName(name);
+        member.setRole(role);
+        member.setTeam(teamId != null ? entityManager.getReference(Team.class, teamId) : null);
+        if (existing.isEmpty()) {
+            entityManager.persist(member);
+        }
+        entityManager.flush();
+
+        return new MemberUpsertRow(member.getId(), existing.isEmpty(),
+                member.getCreatedAt(), member.getUpdatedAt(), previousTeamId);
+    }
+
+    private boolean isSqlServer() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof SQLServerDialect;
+    }
+}
@@ -1,13 +1,23 @@
 package com.desh.teammanagement.repository;
 
 import com.desh.teammanagement.entity.Project;
+import com.desh.teammanagement.repository.projection.ProjectCountsView;
+import com.desh.teammanagement.repository.projection.ProjectLinkExportRow;
+import com.desh.teammanagement.repository.projection.ProjectSearchRow;
+import com.desh.teammanagement.repository.projection.VersionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
@@ -24,15 +34,66 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.teams")
     List<Project> findAllWithTeams();
 
-    @Query("SELECT p FROM Project p JOIN p.teams t WHERE t.id = :teamId")
+    @Query("SELECT p.id FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.teams WHERE p.id IN :ids ORDER BY p.id")
+    List<Project> findAllWithTeamsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.teams " +
+            "WHERE p.id IN (SELECT p2.id FROM Project p2 JOIN p2.teams t WHERE t.id = :teamId)")
     List<Project> findByTeamId(@Param("teamId") Long teamId);
 
+    @Query("SELECT p.id AS id, p.name AS name, SIZE(p.teams) AS teamCount FROM Project p WHERE p.id IN :ids")
+    List<ProjectCountsView> findCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Project p JOIN p.teams t WHERE t.id = :teamId")
+    List<Long> findIdsByTeamId(@Param("teamId") Long teamId);
+
     @Query("SELECT p FROM Project p WHERE p.teams IS EMPTY")
     List<Project> findProjectsWithoutTeams();
 
+    /**
+     * Forward-only cursor of scalar project/team links, ordered by team, for exports.
+     * The caller must consume it inside a transaction and close it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id AS projectId, p.name AS projectName, t.id AS teamId, t.name AS teamName " +
+            "FROM Project p JOIN p.teams t ORDER BY t.id, p.id")
+    Stream<ProjectLinkExportRow> streamProjectLinkRows();
+
+    /**
+     * Forward-only cursor of the searchable columns, for building the search index.
+     * The caller must consume it inside a transaction and close it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id AS id, p.name AS name, p.description AS description FROM Project p")
+    Stream<ProjectSearchRow> streamSearchRows();
+
+    /**
+     * Forward-only cursor of all names, for building the uniqueness filter.
+     * The caller must consume it inside a transaction and close it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.name FROM Project p")
+    Stream<String> streamAllNames();
+
     @Query("SELECT COUNT(p) FROM Project p JOIN p.teams t WHERE t.id = :teamId")
     long countProjectsByTeamId(@Param("teamId") Long teamId);
 
+    /**
+     * ETag inputs of a project response: the project, its teams and their
+     * members (for the team summaries' member counts)
+     */
+    @Query("SELECT p.updatedAt AS updatedAt, SIZE(p.teams) AS teamCount, " +
+            "(SELECT MAX(t.updatedAt) FROM Project p2 JOIN p2.teams t WHERE p2.id = p.id) AS teamsUpdatedAt, " +
+            "(SELECT COUNT(m) FROM Project p2 JOIN p2.teams t JOIN t.teamMembers m WHERE p2.id = p.id) " +
+            "AS memberCount, " +
+            "(SELECT MAX(m.updatedAt) FROM Project p2 JOIN p2.teams t JOIN t.teamMembers m WHERE p2.id = p.id) " +
+            "AS membersUpdatedAt " +
+            "FROM Project p WHERE p.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") Long id);
+
     @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.teams " +
             "WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
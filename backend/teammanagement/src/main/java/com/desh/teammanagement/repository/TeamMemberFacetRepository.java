@@ -0,0 +1,18 @@
+package com.desh.teammanagement.repository;
+
+import com.desh.teammanagement.entity.TeamMember;
+import com.desh.teammanagement.repository.projection.RoleTeamCount;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Grouped counts for faceted member queries (implemented by TeamMemberFacetRepositoryImpl)
+ */
+public interface TeamMemberFacetRepository {
+
+    /**
+     * Member counts per (role, team) pair among the members matching the filter
+     */
+    List<RoleTeamCount> countByRoleAndTeam(Specification<TeamMember> filter);
+}
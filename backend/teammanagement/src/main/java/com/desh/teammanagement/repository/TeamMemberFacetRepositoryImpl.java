@@ -0,0 +1,43 @@
+package com.desh.teammanagement.repository;
+
+import com.desh.teammanagement.entity.TeamMember;
+import com.desh.teammanagement.repository.projection.RoleTeamCount;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+class TeamMemberFacetRepositoryImpl implements TeamMemberFacetRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<RoleTeamCount> countByRoleAndTeam(Specification<TeamMember> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TeamMember> member = query.from(TeamMember.class);
+
+        // team.id is the FK column: no join, and members without a team are kept
+        Expression<String> role = member.get("role");
+        Expression<Long> teamId = member.get("team").get("id");
+
+        query.multiselect(role, teamId, cb.count(member)).groupBy(role, teamId);
+        Predicate predicate = filter.toPredicate(member, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> new RoleTeamCount(row.get(0, String.class), row.get(1, Long.class), row.get(2, Long.class)))
+                .collect(Collectors.toList());
+    }
+}
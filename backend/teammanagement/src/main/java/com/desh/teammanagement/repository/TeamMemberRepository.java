@@ -1,16 +1,27 @@
 package com.desh.teammanagement.repository;
 
 import com.desh.teammanagement.entity.TeamMember;
+import com.desh.teammanagement.repository.projection.MemberSearchRow;
+import com.desh.teammanagement.repository.projection.TeamMemberCountView;
+import com.desh.teammanagement.repository.projection.VersionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
+public interface TeamMemberRepository extends JpaRepository<TeamMember, Long>,
+        JpaSpecificationExecutor<TeamMember>, TeamMemberFacetRepository, MemberUpsertRepository {
 
     Optional<TeamMember> findByEmail(String email);
 
@@ -22,6 +33,19 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
 
     List<TeamMember> findByNameContainingIgnoreCase(String keyword);
 
+    /**
+     * Same matches as the search index (name, email or role), for when it is
+     * not loaded yet. The keyword must be escaped with LikePatterns.escape.
+     */
+    @Query("SELECT m FROM TeamMember m " +
+            "WHERE LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\' " +
+            "OR LOWER(m.email) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\' " +
+            "OR LOWER(m.role) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\' " +
+            "ORDER BY m.id")
+    List<TeamMember> searchMembers(@Param("keyword") String keyword);
+
+    List<TeamMember> findByNameStartingWithIgnoreCaseOrderByNameAsc(String prefix, Limit limit);
+
     List<TeamMember> findByRoleAndTeamId(String role, Long teamId);
 
     long countByTeamId(Long teamId);
@@ -29,21 +53,56 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     @Query("SELECT m FROM TeamMember m LEFT JOIN FETCH m.team")
     List<TeamMember> findAllWithTeam();
 
+    @Query("SELECT m FROM TeamMember m WHERE m.id > :afterId ORDER BY m.id")
+    List<TeamMember> findPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Forward-only cursor over every member, for exports.
+     * The caller must consume it inside a transaction and close it.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM TeamMember m LEFT JOIN FETCH m.team ORDER BY m.id")
+    Stream<TeamMember> streamAllWithTeam();
+
+    /**
+     * Forward-only cursor of the searchable columns, for building the search index.
+     * The caller must consume it inside a transaction and close it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.id AS id, m.name AS name, m.email AS email, m.role AS role FROM TeamMember m")
+    Stream<MemberSearchRow> streamSearchRows();
+
+    /**
+     * Forward-only cursor of all emails, for building the uniqueness filter.
+     * The caller must consume it inside a transaction and close it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.email FROM TeamMember m")
+    Stream<String> streamAllEmails();
+
+    @Query("SELECT m.team.id AS teamId, COUNT(m) AS memberCount FROM TeamMember m " +
+            "WHERE m.team IS NOT NULL GROUP BY m.team.id")
+    List<TeamMemberCountView> countMembersGroupedByTeam();
+
     @Query("SELECT m FROM TeamMember m LEFT JOIN FETCH m.team WHERE m.id = :id")
     Optional<TeamMember> findByIdWithTeam(@Param("id") Long id);
 
+    @Query("SELECT m.email FROM TeamMember m WHERE m.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     @Query("SELECT m FROM TeamMember m WHERE m.team IS NULL")
     List<TeamMember> findMembersWithoutTeam();
 
-    @Query("SELECT m FROM TeamMember m WHERE " +
-            "(:name IS NULL OR LOWER(m.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-            "(:email IS NULL OR LOWER(m.email) LIKE LOWER(CONCAT('%', :email, '%'))) AND " +
-            "(:role IS NULL OR m.role = :role) AND " +
-            "(:teamId IS NULL OR m.team.id = :teamId)")
-    List<TeamMember> searchMembers(
-            @Param("name") String name,
-            @Param("email") String email,
-            @Param("role") String role,
-            @Param("teamId") Long teamId
-    );
+    /**
+     * ETag inputs of a member response: the member, its team and the team's
+     * members (for the team summary's member count)
+     */
+    @Query("SELECT m.updatedAt AS updatedAt, t.updatedAt AS teamsUpdatedAt, " +
+            "(SELECT COUNT(tm) FROM TeamMember tm WHERE tm.team.id = t.id) AS memberCount, " +
+            "(SELECT MAX(tm.updatedAt) FROM TeamMember tm WHERE tm.team.id = t.id) AS membersUpdatedAt " +
+            "FROM TeamMember m LEFT JOIN m.team t WHERE m.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") Long id);
 }
@@ -1,17 +1,33 @@
 package com.desh.teammanagement.repository;
 
 import com.desh.teammanagement.entity.Team;
+import com.desh.teammanagement.repository.projection.TeamCountsView;
+import com.desh.teammanagement.repository.projection.TeamMemberExportRow;
+import com.desh.teammanagement.repository.projection.VersionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
 
+    // SIZE() is rendered as a correlated COUNT subquery per collection, so
+    // counts come back with the team row instead of loading the collections
+    String SELECT_WITH_COUNTS = "SELECT t.id AS id, t.name AS name, t.description AS description, " +
+            "t.createdAt AS createdAt, t.updatedAt AS updatedAt, " +
+            "SIZE(t.teamMembers) AS memberCount, SIZE(t.projects) AS projectCount " +
+            "FROM Team t ";
+
     Optional<Team> findByName(String name);
 
     boolean existsByName(String name);
@@ -21,8 +37,71 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     @Query("SELECT DISTINCT t FROM Team t LEFT JOIN FETCH t.teamMembers")
     List<Team> findAllWithMembers();
 
+    // Separate from findAllWithMembers to avoid a members x projects join
+    @Query("SELECT DISTINCT t FROM Team t LEFT JOIN FETCH t.projects")
+    List<Team> findAllWithProjects();
+
     @Query("SELECT t FROM Team t LEFT JOIN FETCH t.teamMembers WHERE t.id = :id")
     Optional<Team> findByIdWithMembers(@Param("id") Long id);
 
+    @Query(SELECT_WITH_COUNTS + "ORDER BY t.id")
+    List<TeamCountsView> findAllWithCounts();
+
+    @Query(SELECT_WITH_COUNTS + "WHERE t.id = :id")
+    Optional<TeamCountsView> findByIdWithCounts(@Param("id") Long id);
+
+    @Query(SELECT_WITH_COUNTS + "WHERE t.id IN :ids")
+    List<TeamCountsView> findAllWithCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_WITH_COUNTS + "WHERE t.id > :afterId ORDER BY t.id")
+    List<TeamCountsView> findPageWithCountsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(SELECT_WITH_COUNTS + "WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY t.id")
+    List<TeamCountsView> searchByNameWithCounts(@Param("keyword") String keyword);
+
+    /**
+     * Forward-only cursor of scalar team/member rows, ordered by team, for exports.
+     * The caller must consume it inside a transaction and close it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id AS teamId, t.name AS teamName, t.description AS teamDescription, " +
+            "m.id AS memberId, m.name AS memberName, m.email AS memberEmail, m.role AS memberRole " +
+            "FROM Team t LEFT JOIN t.teamMembers m ORDER BY t.id, m.id")
+    Stream<TeamMemberExportRow> streamTeamMemberRows();
+
+    /**
+     * Forward-only cursor of all names, for building the uniqueness filter.
+     * The caller must consume it inside a transaction and close it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.name FROM Team t")
+    Stream<String> streamAllNames();
+
+    @Query("SELECT t.id FROM Team t")
+    List<Long> findAllIds();
+
+    /**
+     * ETag inputs of a team response: the team, its members and its projects
+     * (a project's updatedAt also moves when its team links change)
+     */
+    @Query("SELECT t.updatedAt AS updatedAt, " +
+            "(SELECT COUNT(m) FROM TeamMember m WHERE m.team.id = t.id) AS memberCount, " +
+            "(SELECT MAX(m.updatedAt) FROM TeamMember m WHERE m.team.id = t.id) AS membersUpdatedAt, " +
+            "SIZE(t.projects) AS projectCount, " +
+            "(SELECT MAX(p.updatedAt) FROM Project p JOIN p.teams pt WHERE pt.id = t.id) AS projectsUpdatedAt " +
+            "FROM Team t WHERE t.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") Long id);
+
+    /**
+     * ETag inputs of collection responses: every team, member and project
+     */
+    @Query("SELECT (SELECT COUNT(t) FROM Team t) AS teamCount, " +
+            "(SELECT MAX(t.updatedAt) FROM Team t) AS teamsUpdatedAt, " +
+            "(SELECT COUNT(m) FROM TeamMember m) AS memberCount, " +
+            "(SELECT MAX(m.updatedAt) FROM TeamMember m) AS membersUpdatedAt, " +
+            "(SELECT COUNT(p) FROM Project p) AS projectCount, " +
+            "(SELECT MAX(p.updatedAt) FROM Project p) AS projectsUpdatedAt")
+    VersionView findOverallVersion();
+
     long countByDescriptionContaining(String keyword);
 }
\ No newline at end of file
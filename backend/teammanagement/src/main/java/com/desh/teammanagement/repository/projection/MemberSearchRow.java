@@ -0,0 +1,15 @@
+package com.desh.teammanagement.repository.projection;
+
+/**
+ * Searchable member columns, for building the in-memory search index
+ */
+public interface MemberSearchRow {
+
+    Long getId();
+
+    String getName();
+
+    String getEmail();
+
+    String getRole();
+}
@@ -0,0 +1,11 @@
+package com.desh.teammanagement.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row written by an upsert by email. previousTeamId is the team the member
+ * was in before an update, null when created or when it had no team.
+ */
+public record MemberUpsertRow(long id, boolean created, LocalDateTime createdAt, LocalDateTime updatedAt,
+                              Long previousTeamId) {
+}
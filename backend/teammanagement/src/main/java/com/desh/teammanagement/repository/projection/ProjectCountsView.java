@@ -0,0 +1,13 @@
+package com.desh.teammanagement.repository.projection;
+
+/**
+ * Project id and name plus its team count, read without loading Project.teams
+ */
+public interface ProjectCountsView {
+
+    Long getId();
+
+    String getName();
+
+    int getTeamCount();
+}
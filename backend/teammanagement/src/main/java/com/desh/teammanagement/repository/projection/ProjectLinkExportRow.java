@@ -0,0 +1,15 @@
+package com.desh.teammanagement.repository.projection;
+
+/**
+ * One Project_Team link for exports
+ */
+public interface ProjectLinkExportRow {
+
+    Long getProjectId();
+
+    String getProjectName();
+
+    Long getTeamId();
+
+    String getTeamName();
+}
@@ -0,0 +1,13 @@
+package com.desh.teammanagement.repository.projection;
+
+/**
+ * Searchable project columns, for building the in-memory search index
+ */
+public interface ProjectSearchRow {
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+}
@@ -0,0 +1,8 @@
+package com.desh.teammanagement.repository.projection;
+
+/**
+ * Number of members with one role in one team. Role and team id are null
+ * for members without a role or team.
+ */
+public record RoleTeamCount(String role, Long teamId, long count) {
+}
@@ -0,0 +1,24 @@
+package com.desh.teammanagement.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Team columns plus member/project counts, read in a single statement
+ * without hydrating Team entities or their collections
+ */
+public interface TeamCountsView {
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    int getMemberCount();
+
+    int getProjectCount();
+}
@@ -0,0 +1,12 @@
+package com.desh.teammanagement.repository.projection;
+
+/**
+ * Member count of one team, read with a grouped query
+ * instead of initializing Team.teamMembers
+ */
+public interface TeamMemberCountView {
+
+    Long getTeamId();
+
+    long getMemberCount();
+}
@@ -0,0 +1,22 @@
+package com.desh.teammanagement.repository.projection;
+
+/**
+ * One team/member pair for exports. Member columns are null for a team
+ * without members.
+ */
+public interface TeamMemberExportRow {
+
+    Long getTeamId();
+
+    String getTeamName();
+
+    String getTeamDescription();
+
+    Long getMemberId();
+
+    String getMemberName();
+
+    String getMemberEmail();
+
+    String getMemberRole();
+}
@@ -0,0 +1,26 @@
+package com.desh.teammanagement.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row counts and latest updatedAt of everything a response is built from,
+ * read in a single statement without hydrating entities. Any change to that
+ * data moves at least one of them: updates and inserts the timestamps,
+ * deletes the counts. Values a query does not select are null.
+ */
+public interface VersionView {
+
+    LocalDateTime getUpdatedAt();
+
+    Long getTeamCount();
+
+    LocalDateTime getTeamsUpdatedAt();
+
+    Long getMemberCount();
+
+    LocalDateTime getMembersUpdatedAt();
+
+    Long getProjectCount();
+
+    LocalDateTime getProjectsUpdatedAt();
+}
@@ -0,0 +1,68 @@
+package com.desh.teammanagement.repository.specification;
+
+import com.desh.teammanagement.entity.TeamMember;
+import com.desh.teammanagement.util.LikePatterns;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Building blocks for GET /api/members/query
+ *
+ * Only the predicates for supplied filters are added, so every filter
+ * combination produces its own SQL text (and SQL Server plan) instead of one
+ * "(:p IS NULL OR ...)" statement with a plan that suits no combination.
+ * Text filters are prefix matches on the bare column: with SQL Server's
+ * case-insensitive default collation they stay case-insensitive and can
+ * seek an index, unlike LOWER(column) LIKE '%...%'.
+ */
+public final class TeamMemberSpecifications {
+
+    private TeamMemberSpecifications() {
+    }
+
+    public static Specification<TeamMember> nameStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(root.get("name"), LikePatterns.escape(prefix) + "%", LikePatterns.ESCAPE);
+    }
+
+    public static Specification<TeamMember> emailStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(root.get("email"), LikePatterns.escape(prefix) + "%", LikePatterns.ESCAPE);
+    }
+
+    public static Specification<TeamMember> hasRole(String role) {
+        return (root, query, cb) -> cb.equal(root.get("role"), role);
+    }
+
+    public static Specification<TeamMember> inTeam(Long teamId) {
+        // team.id is the FK column, no join needed
+        return (root, query, cb) -> cb.equal(root.get("team").get("id"), teamId);
+    }
+
+    /**
+     * Rows after the given id when ordering by id
+     */
+    public static Specification<TeamMember> idAfter(long lastId, boolean descending) {
+        return (root, query, cb) -> descending
+                ? cb.lessThan(root.get("id"), lastId)
+                : cb.greaterThan(root.get("id"), lastId);
+    }
+
+    /**
+     * Rows after (value, id) when ordering by the given column, then id.
+     * Written as "column >= value AND (column > value OR id > lastId)" so
+     * the leading range can seek an index on the column.
+     */
+    public static Specification<TeamMember> after(String column, String lastValue, long lastId, boolean descending) {
+        return (root, query, cb) -> {
+            Path<String> value = root.get(column);
+            Path<Long> id = root.get("id");
+            if (descending) {
+                return cb.and(
+                        cb.lessThanOrEqualTo(value, lastValue),
+                        cb.or(cb.lessThan(value, lastValue), cb.lessThan(id, lastId)));
+            }
+            return cb.and(
+                    cb.greaterThanOrEqualTo(value, lastValue),
+                    cb.or(cb.greaterThan(value, lastValue), cb.greaterThan(id, lastId)));
+        };
+    }
+}
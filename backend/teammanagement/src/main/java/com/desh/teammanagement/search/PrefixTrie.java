@@ -0,0 +1,377 @@
+package com.desh.teammanagement.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed (radix) trie answering ranked top-k prefix queries
+ *
+ * Each document contributes a few terms, most important first. Edges carry
+ * whole substrings, so a tail shared by no other term costs a single node,
+ * and children are kept in sorted arrays rather than maps. Every node caches
+ * the best MAX_RESULTS distinct documents of its subtree, so a query walks
+ * down the prefix and copies that list: its cost does not depend on how
+ * many terms share the prefix.
+ *
+ * Ranking: a match on an earlier term of a document beats a match on a later
+ * one, then the shorter term (closest completion) wins, then alphabetical order.
+ *
+ * Thread-safe: queries share a read lock, put/remove take the write lock.
+ */
+public class PrefixTrie {
+
+    public static final int MAX_RESULTS = 20;
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingInt(Entry::rank)
+            .thenComparingInt(entry -> entry.term().length())
+            .thenComparing(Entry::term)
+            .thenComparingLong(Entry::id);
+
+    private final Node root = new Node("");
+    private final Map<Long, String[]> termsById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace a document. Terms are given most important first;
+     * null and blank terms are ignored.
+     */
+    public void put(long id, String... terms) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String term : terms) {
+            String normalized = normalize(term);
+            if (!normalized.isEmpty()) {
+                distinct.add(normalized);
+            }
+        }
+        String[] normalizedTerms = distinct.toArray(new String[0]);
+
+        lock.writeLock().lock();
+        try {
+            String[] previous = termsById.remove(id);
+            if (previous != null) {
+                for (String term : previous) {
+                    removeTerm(term, id);
+                }
+            }
+            for (int rank = 0; rank < normalizedTerms.length; rank++) {
+                insertTerm(new Entry(id, normalizedTerms[rank], rank));
+            }
+            termsById.put(id, normalizedTerms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            String[] previous = termsById.remove(id);
+            if (previous != null) {
+                for (String term : previous) {
+                    removeTerm(term, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the best-ranked documents with a term starting with the prefix,
+     * at most min(limit, MAX_RESULTS)
+     */
+    public List<Long> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int matched = 0;
+            while (matched < key.length()) {
+                Node child = node.child(key.charAt(matched));
+                if (child == null) {
+                    return List.of();
+                }
+                int common = commonPrefixLength(child.label, key, matched);
+                if (matched + common < key.length() && common < child.label.length()) {
+                    return List.of();
+                }
+                node = child;
+                matched += common;
+            }
+
+            int count = Math.min(Math.min(limit, MAX_RESULTS), node.top.length);
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(node.top[i].id());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insertTerm(Entry entry) {
+        String term = entry.term();
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+
+        Node node = root;
+        int position = 0;
+        while (position < term.length()) {
+            Node child = node.child(term.charAt(position));
+            if (child == null) {
+                child = new Node(term.substring(position));
+                node.addChild(child);
+                position = term.length();
+            } else {
+                int common = commonPrefixLength(child.label, term, position);
+                if (common < child.label.length()) {
+                    // The term leaves this edge part-way: split it at the divergence point
+                    Node middle = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    middle.addChild(child);
+                    middle.top = child.top.clone();
+                    node.replaceChild(middle);
+                    child = middle;
+                }
+                position += common;
+            }
+            node = child;
+            path.add(node);
+        }
+
+        node.addOwn(entry);
+        for (Node onPath : path) {
+            onPath.offer(entry);
+        }
+    }
+
+    private void removeTerm(String term, long id) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+
+        Node node = root;
+        int position = 0;
+        while (position < term.length()) {
+            Node child = node.child(term.charAt(position));
+            if (child == null || !term.startsWith(child.label, position)) {
+                return;
+            }
+            node = child;
+            path.add(node);
+            position += child.label.length();
+        }
+
+        Entry removed = node.removeOwn(id);
+        if (removed == null) {
+            return;
+        }
+
+        // A node can only cache the entry if its child on the path does too
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node onPath = path.get(i);
+            if (!onPath.caches(removed)) {
+                break;
+            }
+            onPath.recomputeTop();
+        }
+
+        // Drop nodes left empty and re-merge edges that no longer branch
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node onPath = path.get(i);
+            if (onPath.own == null && onPath.children.length == 0) {
+                path.get(i - 1).removeChild(onPath);
+                continue;
+            }
+            if (onPath.own == null && onPath.children.length == 1) {
+                onPath.absorbOnlyChild();
+            }
+            break;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(long id, String term, int rank) {
+    }
+
+    private static final class Node {
+
+        String label;
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        // Entries whose term ends exactly here, null when none
+        Entry[] own;
+        // Best entries of the subtree, one per document, ranked
+        Entry[] top = NO_ENTRIES;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void addChild(Node child) {
+            int insertAt = -Arrays.binarySearch(keys, child.label.charAt(0)) - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = child.label.charAt(0);
+            newChildren[insertAt] = child;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void replaceChild(Node child) {
+            children[Arrays.binarySearch(keys, child.label.charAt(0))] = child;
+        }
+
+        void removeChild(Node child) {
+            int index = Arrays.binarySearch(keys, child.label.charAt(0));
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void absorbOnlyChild() {
+            Node only = children[0];
+            label = label + only.label;
+            keys = only.keys;
+            children = only.children;
+            own = only.own;
+            top = only.top;
+        }
+
+        void addOwn(Entry entry) {
+            if (own == null) {
+                own = new Entry[]{entry};
+                return;
+            }
+            own = Arrays.copyOf(own, own.length + 1);
+            own[own.length - 1] = entry;
+        }
+
+        Entry removeOwn(long id) {
+            if (own == null) {
+                return null;
+            }
+            for (int i = 0; i < own.length; i++) {
+                if (own[i].id() == id) {
+                    Entry removed = own[i];
+                    if (own.length == 1) {
+                        own = null;
+                    } else {
+                        Entry[] remaining = new Entry[own.length - 1];
+                        System.arraycopy(own, 0, remaining, 0, i);
+                        System.arraycopy(own, i + 1, remaining, i, own.length - i - 1);
+                        own = remaining;
+                    }
+                    return removed;
+                }
+            }
+            return null;
+        }
+
+        boolean caches(Entry entry) {
+            for (Entry cached : top) {
+                if (cached.equals(entry)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Merge a new entry into the cached top list
+         */
+        void offer(Entry entry) {
+            List<Entry> entries = new ArrayList<>(top.length + 1);
+            for (Entry cached : top) {
+                if (cached.id() != entry.id()) {
+                    entries.add(cached);
+                } else if (RANKING.compare(cached, entry) <= 0) {
+                    return;
+                }
+            }
+            entries.add(entry);
+            entries.sort(RANKING);
+            top = entries.subList(0, Math.min(entries.size(), MAX_RESULTS)).toArray(NO_ENTRIES);
+        }
+
+        /**
+         * Rebuild the cached top list from this node's own entries and the
+         * children's (already correct) lists
+         */
+        void recomputeTop() {
+            List<Entry> entries = new ArrayList<>();
+            if (own != null) {
+                entries.addAll(Arrays.asList(own));
+            }
+            for (Node child : children) {
+                entries.addAll(Arrays.asList(child.top));
+            }
+            entries.sort(RANKING);
+
+            List<Entry> best = new ArrayList<>(MAX_RESULTS);
+            Set<Long> seen = new HashSet<>();
+            for (Entry entry : entries) {
+                if (best.size() == MAX_RESULTS) {
+                    break;
+                }
+                if (seen.add(entry.id())) {
+                    best.add(entry);
+                }
+            }
+            top = best.toArray(NO_ENTRIES);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.desh.teammanagement.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant word index using symmetric deletes
+ *
+ * Every distinct word is stored under each string obtained by deleting up
+ * to MAX_EDITS characters from it. Two words within edit distance k share
+ * at least one such variant (deleting at most k characters from each), so
+ * a query only looks up the deletes of its own words and checks the few
+ * candidates with a bounded edit distance - it never compares against
+ * every word. Variants are kept per distinct word, not per document, so
+ * common names cost nothing extra.
+ *
+ * Distance is Levenshtein with an adjacent transposition counted as one
+ * edit ("jhon" is one edit from "john"), the most common typo.
+ *
+ * A document matches when each query word is within the allowed distance
+ * of one of its words: none for one- and two-letter words, one edit up to
+ * four letters, two edits beyond.
+ *
+ * Thread-safe: searches share a read lock, put/remove take the write lock.
+ */
+public class SymmetricDeleteIndex {
+
+    public static final int MAX_EDITS = 2;
+
+    // Distinct word -> ids of the documents containing it
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // Delete variant (including the word itself) -> words producing it
+    private final Map<String, List<String>> variants = new HashMap<>();
+    private final Map<Long, String[]> wordsById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long id, String text) {
+        String[] words = words(text);
+
+        lock.writeLock().lock();
+        try {
+            String[] previous = wordsById.remove(id);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+            if (words.length == 0) {
+                return;
+            }
+            wordsById.put(id, words);
+            for (String word : words) {
+                PostingList list = postings.get(word);
+                if (list == null) {
+                    list = new PostingList();
+                    postings.put(word, list);
+                    for (String variant : deletes(word, MAX_EDITS)) {
+                        variants.computeIfAbsent(variant, key -> new ArrayList<>(1)).add(word);
+                    }
+                }
+                list.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            String[] previous = wordsById.remove(id);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of documents matching every word of the query, closest first
+     * (by total edit distance), then ascending id
+     */
+    public List<Long> search(String query) {
+        String[] queryWords = words(query);
+        if (queryWords.length == 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> distances = null;
+            for (String queryWord : queryWords) {
+                Map<Long, Integer> wordDistances = new HashMap<>();
+                for (Map.Entry<String, Integer> match : similarWords(queryWord).entrySet()) {
+                    for (long id : postings.get(match.getKey()).toArray()) {
+                        wordDistances.merge(id, match.getValue(), Math::min);
+                    }
+                }
+
+                if (distances == null) {
+                    distances = wordDistances;
+                } else {
+                    Map<Long, Integer> combined = new HashMap<>();
+                    for (Map.Entry<Long, Integer> entry : distances.entrySet()) {
+                        Integer distance = wordDistances.get(entry.getKey());
+                        if (distance != null) {
+                            combined.put(entry.getKey(), entry.getValue() + distance);
+                        }
+                    }
+                    distances = combined;
+                }
+                if (distances.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            Map<Long, Integer> totals = distances;
+            List<Long> ids = new ArrayList<>(totals.keySet());
+            ids.sort(Comparator.<Long>comparingInt(totals::get).thenComparing(Comparator.naturalOrder()));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed words within the allowed distance of the query word, with their distance
+     */
+    private Map<String, Integer> similarWords(String queryWord) {
+        int maxEdits = allowedEdits(queryWord.length());
+        Map<String, Integer> matches = new HashMap<>();
+        for (String variant : deletes(queryWord, maxEdits)) {
+            List<String> candidates = variants.get(variant);
+            if (candidates == null) {
+                continue;
+            }
+            for (String candidate : candidates) {
+                if (!matches.containsKey(candidate)) {
+                    int distance = boundedDistance(queryWord, candidate, maxEdits);
+                    if (distance <= maxEdits) {
+                        matches.put(candidate, distance);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void unlink(long id, String[] words) {
+        for (String word : words) {
+            PostingList list = postings.get(word);
+            if (list == null || !list.remove(id) || list.size() > 0) {
+                continue;
+            }
+            postings.remove(word);
+            for (String variant : deletes(word, MAX_EDITS)) {
+                List<String> producers = variants.get(variant);
+                if (producers != null) {
+                    producers.remove(word);
+                    if (producers.isEmpty()) {
+                        variants.remove(variant);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int allowedEdits(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 4 ? 1 : MAX_EDITS;
+    }
+
+    /**
+     * The word and every string made by deleting up to maxEdits of its characters
+     */
+    private static Set<String> deletes(String word, int maxEdits) {
+        Set<String> result = new HashSet<>();
+        result.add(word);
+        Set<String> frontier = Set.of(word);
+        for (int edit = 0; edit < maxEdits; edit++) {
+            Set<String> next = new HashSet<>();
+            for (String value : frontier) {
+                for (int i = 0; i < value.length(); i++) {
+                    String deleted = value.substring(0, i) + value.substring(i + 1);
+                    if (result.add(deleted)) {
+                        next.add(deleted);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return result;
+    }
+
+    /**
+     * Edit distance counting an adjacent transposition as one edit (optimal
+     * string alignment), or maxEdits + 1 as soon as it is known to exceed maxEdits
+     */
+    static int boundedDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return maxEdits + 1;
+        }
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    private static String[] words(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,172 @@
+package com.desh.teammanagement.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index answering case-insensitive "contains"
+ * queries over a few short text fields per document
+ *
+ * Every field is lower-cased and cut into overlapping three-character grams,
+ * and each gram maps to the sorted ids of the documents containing it.
+ * A query intersects the posting lists of its own grams (shortest first)
+ * and confirms the survivors with String.contains, so it returns exactly
+ * the documents LOWER(field) LIKE '%keyword%' would match on any field.
+ * Keywords shorter than a gram are answered by scanning the stored fields.
+ *
+ * Thread-safe: searches share a read lock, put/remove take the write lock.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace a document. Null fields are ignored.
+     */
+    public void put(long id, String... fields) {
+        String[] normalized = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            normalized[i] = normalize(fields[i]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.put(id, normalized);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+            for (long gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.remove(id);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of all documents with a field containing the keyword, ascending
+     */
+    public List<Long> search(String keyword) {
+        String needle = normalize(keyword);
+        if (needle == null || needle.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (needle.length() < GRAM_LENGTH) {
+                return scan(needle);
+            }
+
+            List<PostingList> lists = new ArrayList<>();
+            for (long gram : grams(new String[]{needle})) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            long[] candidates = lists.get(0).toArray();
+            int count = candidates.length;
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                count = lists.get(i).retainAll(candidates, count);
+            }
+
+            List<Long> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (matches(documents.get(candidates[i]), needle)) {
+                    result.add(candidates[i]);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> scan(String needle) {
+        List<Long> result = new ArrayList<>();
+        for (Map.Entry<Long, String[]> document : documents.entrySet()) {
+            if (matches(document.getValue(), needle)) {
+                result.add(document.getKey());
+            }
+        }
+        result.sort(null);
+        return result;
+    }
+
+    private void unlink(long id, String[] fields) {
+        for (long gram : grams(fields)) {
+            PostingList list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static boolean matches(String[] fields, String needle) {
+        for (String field : fields) {
+            if (field != null && field.contains(needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Distinct grams of all fields, each packed into a long (three 16-bit chars)
+     */
+    private static Set<Long> grams(String[] fields) {
+        Set<Long> grams = new HashSet<>();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                grams.add(((long) field.charAt(i) << 32)
+                        | ((long) field.charAt(i + 1) << 16)
+                        | field.charAt(i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
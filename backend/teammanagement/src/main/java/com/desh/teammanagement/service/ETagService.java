@@ -0,0 +1,58 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.repository.ProjectRepository;
+import com.desh.teammanagement.repository.TeamMemberRepository;
+import com.desh.teammanagement.repository.TeamRepository;
+import com.desh.teammanagement.repository.projection.VersionView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ETags for conditional GETs, computed from one aggregate query over the
+ * rows a response is built from (see VersionView) instead of from the
+ * response itself, so an unchanged resource costs one cheap statement and
+ * no entity loading, mapping or serialization.
+ *
+ * Single resources get strong ETags, collections a weak one shared by every
+ * collection endpoint: any write anywhere changes it.
+ * Returns null for a resource that does not exist; the normal lookup then
+ * produces the 404.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ETagService {
+
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository memberRepository;
+    private final ProjectRepository projectRepository;
+
+    public String teamETag(Long id) {
+        return teamRepository.findVersionById(id).map(version -> strong("team", version)).orElse(null);
+    }
+
+    public String memberETag(Long id) {
+        return memberRepository.findVersionById(id).map(version -> strong("member", version)).orElse(null);
+    }
+
+    public String projectETag(Long id) {
+        return projectRepository.findVersionById(id).map(version -> strong("project", version)).orElse(null);
+    }
+
+    public String collectionETag() {
+        return "W/" + strong("all", teamRepository.findOverallVersion());
+    }
+
+    private static String strong(String kind, VersionView version) {
+        String inputs = String.join("|", kind,
+                String.valueOf(version.getUpdatedAt()),
+                String.valueOf(version.getTeamCount()), String.valueOf(version.getTeamsUpdatedAt()),
+                String.valueOf(version.getMemberCount()), String.valueOf(version.getMembersUpdatedAt()),
+                String.valueOf(version.getProjectCount()), String.valueOf(version.getProjectsUpdatedAt()));
+        return "\"" + DigestUtils.md5DigestAsHex(inputs.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
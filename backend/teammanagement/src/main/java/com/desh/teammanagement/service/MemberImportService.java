@@ -0,0 +1,330 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.dto.request.TeamMemberRequestDTO;
+import com.desh.teammanagement.dto.response.ImportRowErrorDTO;
+import com.desh.teammanagement.dto.response.MemberImportResultDTO;
+import com.desh.teammanagement.entity.Team;
+import com.desh.teammanagement.entity.TeamMember;
+import com.desh.teammanagement.exception.InvalidOperationException;
+import com.desh.teammanagement.importer.CsvRowReader;
+import com.desh.teammanagement.importer.XlsxRowReader;
+import com.desh.teammanagement.repository.TeamMemberRepository;
+import com.desh.teammanagement.repository.TeamRepository;
+import com.desh.teammanagement.util.UniqueConstraints;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk member import from CSV or Excel (.xlsx)
+ *
+ * The file is read as a stream and rows are written in chunks, each chunk in
+ * its own transaction, so neither the file nor the import is ever held in
+ * memory as a whole. Bad rows are skipped and reported; they never fail the
+ * rows around them, also when they only fail in the database.
+ *
+ * Expected header row (any column order, case-insensitive):
+ *   name, email, role, teamId
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final TeamMemberRepository memberRepository;
+    private final TeamRepository teamRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final SummaryCacheService summaryCache;
+    private final SearchIndexService searchIndex;
+    private final UniquenessFilterService uniquenessFilter;
+
+    public MemberImportResultDTO importMembers(MultipartFile file) {
+        String filename = file.getOriginalFilename() != null
+                ? file.getOriginalFilename().toLowerCase(Locale.ROOT)
+                : "";
+
+        ImportJob job = new ImportJob(new HashSet<>(teamRepository.findAllIds()));
+
+        try {
+            if (filename.endsWith(".csv")) {
+                try (InputStream in = file.getInputStream()) {
+                    CsvRowReader.read(in, job::onRow);
+                }
+            } else if (filename.endsWith(".xlsx")) {
+                // The OOXML zip needs random access, so read it from a file, not the upload stream
+                Path tempFile = Files.createTempFile("member-import-", ".xlsx");
+                try {
+                    file.transferTo(tempFile);
+                    XlsxRowReader.read(tempFile, job::onRow);
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+            } else {
+                throw new InvalidOperationException("Only .csv and .xlsx files can be imported");
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read import file", ex);
+        }
+
+        job.writePendingChunk();
+        return job.toResult();
+    }
+
+    /**
+     * State of one running import: header mapping, the current chunk and the report
+     */
+    private class ImportJob {
+
+        private final Set<Long> teamIds;
+        private final List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final Set<String> chunkEmails = new HashSet<>();
+        private final List<ImportRowErrorDTO> errors = new ArrayList<>();
+
+        private Map<String, Integer> columns;
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        ImportJob(Set<Long> teamIds) {
+            this.teamIds = teamIds;
+        }
+
+        void onRow(long rowNumber, List<String> cells) {
+            if (columns == null) {
+                columns = mapHeader(cells);
+                return;
+            }
+            if (cells.stream().allMatch(String::isBlank)) {
+                return;
+            }
+
+            totalRows++;
+            TeamMemberRequestDTO request = new TeamMemberRequestDTO(
+                    blankToNull(cell(cells, "name")),
+                    blankToNull(cell(cells, "email")),
+                    blankToNull(cell(cells, "role")),
+                    null
+            );
+
+            String error = validate(request, cell(cells, "teamid"));
+            if (error == null && !chunkEmails.add(request.getEmail().toLowerCase(Locale.ROOT))) {
+                error = "Duplicate email in file";
+            }
+            if (error != null) {
+                reject(rowNumber, request.getEmail(), error);
+                return;
+            }
+
+            chunk.add(new PendingRow(rowNumber, request));
+            if (chunk.size() >= CHUNK_SIZE) {
+                writePendingChunk();
+            }
+        }
+
+        /**
+         * Insert the current chunk in one transaction. Emails already in the
+         * database (including earlier chunks) are found with one IN query.
+         */
+        void writePendingChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            List<PendingRow> rows = new ArrayList<>(chunk);
+            chunk.clear();
+            chunkEmails.clear();
+            write(rows);
+        }
+
+        /**
+         * If the transaction fails (a concurrent insert of the same email, a
+         * team deleted meanwhile), retry each half on its own, down to single
+         * rows, so only the rows that fail are rejected: one bad row in a
+         * chunk of 1000 costs about 20 extra transactions, not 999 good rows.
+         */
+        private void write(List<PendingRow> rows) {
+            List<PendingRow> rejected = new ArrayList<>();
+            List<TeamMember> written;
+            try {
+                written = transactionTemplate.execute(status -> insert(rows, rejected));
+            } catch (RuntimeException ex) {
+                if (rows.size() == 1) {
+                    PendingRow row = rows.get(0);
+                    reject(row.rowNumber(), row.request().getEmail(), failureMessage(row, ex));
+                    return;
+                }
+                int half = rows.size() / 2;
+                write(rows.subList(0, half));
+                write(rows.subList(half, rows.size()));
+                return;
+            }
+
+            // Committed by now: index the new members and make them visible to the next cache load
+            importedRows += written.size();
+            written.forEach(searchIndex::indexMember);
+            written.forEach(member -> uniquenessFilter.recordMemberEmail(member.getEmail()));
+            rows.stream()
+                    .map(row -> row.request().getTeamId())
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(summaryCache::evictTeam);
+            rejected.forEach(row -> reject(row.rowNumber(), row.request().getEmail(),
+                    "Member with email '" + row.request().getEmail() + "' already exists"));
+        }
+
+        private List<TeamMember> insert(List<PendingRow> rows, List<PendingRow> rejected) {
+            // Only emails the filter cannot rule out need the existence query
+            List<String> probedEmails = rows.stream()
+                    .map(row -> row.request().getEmail())
+                    .filter(uniquenessFilter::memberEmailMayExist)
+                    .collect(Collectors.toList());
+            Set<String> existingEmails = probedEmails.isEmpty()
+                    ? Set.of()
+                    : memberRepository.findExistingEmails(probedEmails).stream()
+                            .map(email -> email.toLowerCase(Locale.ROOT))
+                            .collect(Collectors.toSet());
+
+            List<TeamMember> members = new ArrayList<>(rows.size());
+            for (PendingRow row : rows) {
+                TeamMemberRequestDTO request = row.request();
+                if (existingEmails.contains(request.getEmail().toLowerCase(Locale.ROOT))) {
+                    rejected.add(row);
+                    continue;
+                }
+                members.add(toEntity(request));
+            }
+
+            memberRepository.saveAll(members);
+            entityManager.flush();
+            entityManager.clear();
+            return members;
+        }
+
+        private String failureMessage(PendingRow row, RuntimeException ex) {
+            if (ex instanceof DataIntegrityViolationException violation
+                    && UniqueConstraints.isViolation(violation, UniqueConstraints.MEMBER_EMAIL)) {
+                return "Member with email '" + row.request().getEmail() + "' already exists";
+            }
+            if (ex instanceof DataIntegrityViolationException violation) {
+                // Most likely the team was deleted after the import read the team ids
+                return "Row could not be saved: " + violation.getMostSpecificCause().getMessage();
+            }
+            return "Row could not be saved: " + ex.getMessage();
+        }
+
+        MemberImportResultDTO toResult() {
+            return MemberImportResultDTO.builder()
+                    .totalRows(totalRows)
+                    .importedRows(importedRows)
+                    .failedRows(failedRows)
+                    .errors(errors)
+                    .errorsTruncated(failedRows > errors.size())
+                    .build();
+        }
+
+        private Map<String, Integer> mapHeader(List<String> header) {
+            Map<String, Integer> mapped = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String column = header.get(i)
+                        .replace("\uFEFF", "")
+                        .replaceAll("[\\s_]", "")
+                        .toLowerCase(Locale.ROOT);
+                mapped.putIfAbsent(column, i);
+            }
+            if (!mapped.containsKey("name") || !mapped.containsKey("email")) {
+                throw new InvalidOperationException(
+                        "Import file must have a header row with at least 'name' and 'email' columns"
+                );
+            }
+            return mapped;
+        }
+
+        private String cell(List<String> cells, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < cells.size() ? cells.get(index).trim() : "";
+        }
+
+        /**
+         * Apply the TeamMemberRequestDTO rules plus the team lookup.
+         * Sets the parsed team id on the request when it is valid.
+         */
+        private String validate(TeamMemberRequestDTO request, String rawTeamId) {
+            Set<ConstraintViolation<TeamMemberRequestDTO>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                return violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            }
+
+            if (!rawTeamId.isEmpty()) {
+                Long teamId;
+                try {
+                    teamId = new BigDecimal(rawTeamId).longValueExact();
+                } catch (NumberFormatException | ArithmeticException ex) {
+                    return "Invalid teamId '" + rawTeamId + "'";
+                }
+                if (!teamIds.contains(teamId)) {
+                    return "Team not found with id: " + teamId;
+                }
+                request.setTeamId(teamId);
+            }
+            return null;
+        }
+
+        private TeamMember toEntity(TeamMemberRequestDTO request) {
+            TeamMember member = new TeamMember();
+            member.setName(request.getName());
+            member.setEmail(request.getEmail());
+            member.setRole(request.getRole());
+            if (request.getTeamId() != null) {
+                // Team ids were checked against the cached id set - no SELECT needed
+                member.setTeam(entityManager.getReference(Team.class, request.getTeamId()));
+            }
+            return member;
+        }
+
+        private void reject(long rowNumber, String email, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ImportRowErrorDTO.builder()
+                        .rowNumber(rowNumber)
+                        .email(email)
+                        .message(message)
+                        .build());
+            }
+        }
+
+        private String blankToNull(String value) {
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    private record PendingRow(long rowNumber, TeamMemberRequestDTO request) {
+    }
+}
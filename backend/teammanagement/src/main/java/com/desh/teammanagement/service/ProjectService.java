@@ -1,6 +1,7 @@
 package com.desh.teammanagement.service;
 
 import com.desh.teammanagement.dto.request.ProjectRequestDTO;
+import com.desh.teammanagement.dto.response.CursorPageResponseDTO;
 import com.desh.teammanagement.dto.response.ProjectResponseDTO;
 import com.desh.teammanagement.dto.response.TeamSummaryDTO;
 import com.desh.teammanagement.entity.Project;
@@ -9,12 +10,20 @@ import com.desh.teammanagement.exception.DuplicateResourceException;
 import com.desh.teammanagement.exception.ResourceNotFoundException;
 import com.desh.teammanagement.repository.ProjectRepository;
 import com.desh.teammanagement.repository.TeamRepository;
+import com.desh.teammanagement.util.KeysetCursor;
+import com.desh.teammanagement.util.UniqueConstraints;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -25,12 +34,17 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final TeamRepository teamRepository;
+    private final SummaryCacheService summaryCache;
+    private final SearchIndexService searchIndex;
+    private final UniquenessFilterService uniquenessFilter;
+
+    // Search hits are loaded by primary key in batches of this many ids
+    private static final int SEARCH_LOAD_BATCH_SIZE = 1000;
 
     public ProjectResponseDTO createProject(ProjectRequestDTO requestDTO) {
-        if (projectRepository.existsByName(requestDTO.getName())) {
-            throw new DuplicateResourceException(
-                    "Project with name '" + requestDTO.getName() + "' already exists"
-            );
+        if (uniquenessFilter.projectNameMayExist(requestDTO.getName())
+                && projectRepository.existsByName(requestDTO.getName())) {
+            throw duplicateName(requestDTO.getName(), null);
         }
 
         Project project = new Project();
@@ -42,16 +56,30 @@ public class ProjectService {
             teams.forEach(project::addTeam);
         }
 
-        Project savedProject = projectRepository.save(project);
+        Project savedProject = saveWithUniqueName(project, true);
+        searchIndex.indexProject(savedProject);
         return convertToResponseDTO(savedProject);
     }
 
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getAllProjects() {
         List<Project> projects = projectRepository.findAllWithTeams();
-        return projects.stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return convertToResponseDTOs(projects);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<ProjectResponseDTO> getProjectsPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+
+        // Page over ids first: a collection fetch join cannot be limited in SQL
+        List<Long> ids = projectRepository.findIdsAfter(
+                KeysetCursor.decode(cursor), Limit.of(pageSize + 1));
+        List<Project> rows = ids.isEmpty()
+                ? List.of()
+                : projectRepository.findAllWithTeamsByIdIn(ids);
+        Map<Long, TeamSummaryDTO> teamSummaries = loadTeamSummaries(rows);
+        return KeysetCursor.toPage(rows, pageSize, Project::getId,
+                project -> convertToResponseDTO(project, teamSummaries));
     }
 
     @Transactional(readOnly = true)
@@ -70,17 +98,22 @@ public class ProjectService {
         }
 
         List<Project> projects = projectRepository.findByTeamId(teamId);
-        return projects.stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return convertToResponseDTOs(projects);
     }
 
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> searchProjects(String keyword) {
-        List<Project> projects = projectRepository.searchProjects(keyword);
-        return projects.stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        if (!searchIndex.isReady()) {
+            return convertToResponseDTOs(projectRepository.searchProjects(keyword));
+        }
+
+        List<Long> ids = searchIndex.searchProjectIds(keyword);
+        List<Project> projects = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += SEARCH_LOAD_BATCH_SIZE) {
+            projects.addAll(projectRepository.findAllWithTeamsByIdIn(
+                    ids.subList(from, Math.min(from + SEARCH_LOAD_BATCH_SIZE, ids.size()))));
+        }
+        return convertToResponseDTOs(projects);
     }
 
     public ProjectResponseDTO updateProject(Long id, ProjectRequestDTO requestDTO) {
@@ -89,11 +122,11 @@ public class ProjectService {
                         "Project not found with id: " + id
                 ));
 
-        if (!project.getName().equals(requestDTO.getName())) {
-            if (projectRepository.existsByName(requestDTO.getName())) {
-                throw new DuplicateResourceException(
-                        "Project with name '" + requestDTO.getName() + "' already exists"
-                );
+        boolean nameChanged = !project.getName().equals(requestDTO.getName());
+        if (nameChanged) {
+            if (uniquenessFilter.projectNameMayExist(requestDTO.getName())
+                    && projectRepository.existsByName(requestDTO.getName())) {
+                throw duplicateName(requestDTO.getName(), null);
             }
         }
 
@@ -101,15 +134,12 @@ public class ProjectService {
         project.setDescription(requestDTO.getDescription());
 
         if (requestDTO.getTeamIds() != null) {
-            new HashSet<>(project.getTeams()).forEach(project::removeTeam);
-
-            if (!requestDTO.getTeamIds().isEmpty()) {
-                Set<Team> newTeams = validateAndGetTeams(requestDTO.getTeamIds());
-                newTeams.forEach(project::addTeam);
-            }
+            syncTeams(project, requestDTO.getTeamIds());
         }
 
-        Project updatedProject = projectRepository.save(project);
+        summaryCache.evictProject(id);
+        Project updatedProject = saveWithUniqueName(project, nameChanged);
+        searchIndex.indexProject(updatedProject);
         return convertToResponseDTO(updatedProject);
     }
 
@@ -125,6 +155,7 @@ public class ProjectService {
                 ));
 
         project.addTeam(team);
+        summaryCache.evictProject(projectId);
         Project updatedProject = projectRepository.save(project);
         return convertToResponseDTO(updatedProject);
     }
@@ -141,6 +172,7 @@ public class ProjectService {
                 ));
 
         project.removeTeam(team);
+        summaryCache.evictProject(projectId);
         Project updatedProject = projectRepository.save(project);
         return convertToResponseDTO(updatedProject);
     }
@@ -152,28 +184,110 @@ public class ProjectService {
             );
         }
         projectRepository.deleteById(id);
+        summaryCache.evictProject(id);
+        searchIndex.removeProject(id);
+    }
+
+    /**
+     * Bring the project's teams in line with the requested ids by applying
+     * only the difference, so an unchanged team list touches no Project_Team
+     * rows and only newly linked teams are looked up.
+     */
+    private void syncTeams(Project project, Set<Long> requestedTeamIds) {
+        Set<Team> removedTeams = project.getTeams().stream()
+                .filter(team -> !requestedTeamIds.contains(team.getId()))
+                .collect(Collectors.toSet());
+        removedTeams.forEach(project::removeTeam);
+
+        Set<Long> currentTeamIds = project.getTeams().stream()
+                .map(Team::getId)
+                .collect(Collectors.toSet());
+        Set<Long> addedTeamIds = requestedTeamIds.stream()
+                .filter(teamId -> !currentTeamIds.contains(teamId))
+                .collect(Collectors.toSet());
+
+        if (!addedTeamIds.isEmpty()) {
+            validateAndGetTeams(addedTeamIds).forEach(project::addTeam);
+        }
     }
 
+    /**
+     * Load all requested teams in one query, failing with every missing id
+     * at once rather than one round-trip (and one error) per id.
+     */
     private Set<Team> validateAndGetTeams(Set<Long> teamIds) {
-        Set<Team> teams = new HashSet<>();
-        for (Long teamId : teamIds) {
-            Team team = teamRepository.findById(teamId)
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Team not found with id: " + teamId
-                    ));
-            teams.add(team);
+        List<Team> teams = teamRepository.findAllById(teamIds);
+
+        if (teams.size() != teamIds.size()) {
+            Set<Long> foundIds = teams.stream()
+                    .map(Team::getId)
+                    .collect(Collectors.toSet());
+            List<Long> missingIds = teamIds.stream()
+                    .filter(teamId -> !foundIds.contains(teamId))
+                    .sorted()
+                    .collect(Collectors.toList());
+            throw new ResourceNotFoundException(
+                    "Teams not found with ids: " + missingIds
+            );
         }
-        return teams;
+
+        return new HashSet<>(teams);
+    }
+
+    /**
+     * Summaries of every team linked to the given projects, keyed by team id.
+     * Served from the summary cache; misses cost one query per 1000 teams
+     * and never initialize Team.teamMembers.
+     */
+    private Map<Long, TeamSummaryDTO> loadTeamSummaries(Collection<Project> projects) {
+        Set<Long> teamIds = projects.stream()
+                .flatMap(project -> project.getTeams().stream())
+                .map(Team::getId)
+                .collect(Collectors.toSet());
+        return teamIds.isEmpty() ? Map.of() : summaryCache.getTeamSummaries(teamIds);
+    }
+
+    /**
+     * Flush now so a concurrent insert of the same name surfaces here as a
+     * duplicate rather than as a constraint error at commit. Only a new name
+     * is recorded in the uniqueness filter.
+     */
+    private Project saveWithUniqueName(Project project, boolean newName) {
+        Project saved;
+        try {
+            saved = projectRepository.saveAndFlush(project);
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraints.isViolation(ex, UniqueConstraints.PROJECT_NAME)) {
+                throw duplicateName(project.getName(), ex);
+            }
+            throw ex;
+        }
+        if (newName) {
+            uniquenessFilter.recordProjectName(saved.getName());
+        }
+        return saved;
+    }
+
+    private static DuplicateResourceException duplicateName(String name, Throwable cause) {
+        return new DuplicateResourceException("Project with name '" + name + "' already exists", cause);
+    }
+
+    // Package-private for ConversionBenchmark (src/jmh)
+    ProjectResponseDTO convertToResponseDTO(Project project) {
+        return convertToResponseDTO(project, loadTeamSummaries(List.of(project)));
+    }
+
+    private List<ProjectResponseDTO> convertToResponseDTOs(List<Project> projects) {
+        Map<Long, TeamSummaryDTO> teamSummaries = loadTeamSummaries(projects);
+        return projects.stream()
+                .map(project -> convertToResponseDTO(project, teamSummaries))
+                .collect(Collectors.toList());
     }
 
-    private ProjectResponseDTO convertToResponseDTO(Project project) {
+    private ProjectResponseDTO convertToResponseDTO(Project project, Map<Long, TeamSummaryDTO> teamSummaries) {
         Set<TeamSummaryDTO> teamDTOs = project.getTeams().stream()
-                .map(team -> TeamSummaryDTO.builder()
-                        .id(team.getId())
-                        .name(team.getName())
-                        .memberCount(team.getTeamMembers() != null ?
-                                team.getTeamMembers().size() : 0)
-                        .build())
+                .map(team -> teamSummaries.get(team.getId()))
+                .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
         return ProjectResponseDTO.builder()
@@ -0,0 +1,224 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.dto.response.MemberSuggestionDTO;
+import com.desh.teammanagement.entity.Project;
+import com.desh.teammanagement.entity.TeamMember;
+import com.desh.teammanagement.repository.ProjectRepository;
+import com.desh.teammanagement.repository.TeamMemberRepository;
+import com.desh.teammanagement.repository.projection.MemberSearchRow;
+import com.desh.teammanagement.repository.projection.ProjectSearchRow;
+import com.desh.teammanagement.search.PrefixTrie;
+import com.desh.teammanagement.search.SymmetricDeleteIndex;
+import com.desh.teammanagement.search.TrigramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory keyword indexes over member name/email/role and project
+ * name/description, so keyword searches never run a '%keyword%' LIKE scan,
+ * a prefix trie over member names and emails for autocomplete and a
+ * typo-tolerant index over member names
+ *
+ * The indexes are loaded from the database once the application is ready
+ * and then kept current by the service write paths. Changes are applied
+ * when the surrounding transaction commits, so a rolled back write never
+ * shows up in search results. Until the first load has finished,
+ * isReady() is false and callers search the database instead.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private final TeamMemberRepository memberRepository;
+    private final ProjectRepository projectRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final TrigramIndex memberIndex = new TrigramIndex();
+    private final PrefixTrie memberTrie = new PrefixTrie();
+    private final SymmetricDeleteIndex memberNameFuzzyIndex = new SymmetricDeleteIndex();
+    // Suggestion payloads, so autocomplete never needs a query
+    private final Map<Long, MemberSuggestionDTO> memberSuggestions = new ConcurrentHashMap<>();
+    private final TrigramIndex projectIndex = new TrigramIndex();
+
+    // Ids written while the load runs: the load must not overwrite them with the older row it read
+    private final Set<Long> membersChangedDuringLoad = new HashSet<>();
+    private final Set<Long> projectsChangedDuringLoad = new HashSet<>();
+    private boolean loading;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndexes() {
+        synchronized (this) {
+            loading = true;
+        }
+        try {
+            // The transaction runs inside the try: a failed load must not fail startup
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<MemberSearchRow> rows = memberRepository.streamSearchRows()) {
+                    rows.forEach(row -> load(membersChangedDuringLoad, row.getId(),
+                            () -> putMember(row.getId(), row.getName(), row.getEmail(), row.getRole())));
+                }
+                try (Stream<ProjectSearchRow> rows = projectRepository.streamSearchRows()) {
+                    rows.forEach(row -> load(projectsChangedDuringLoad, row.getId(),
+                            () -> projectIndex.put(row.getId(), row.getName(), row.getDescription())));
+                }
+            });
+            ready = true;
+            log.info("Search index loaded: {} members, {} projects", memberIndex.size(), projectIndex.size());
+        } catch (RuntimeException ex) {
+            log.error("Search index load failed, keyword searches will use the database", ex);
+        } finally {
+            synchronized (this) {
+                loading = false;
+                membersChangedDuringLoad.clear();
+                projectsChangedDuringLoad.clear();
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ids of members whose name, email or role contains the keyword, ascending
+     */
+    public List<Long> searchMemberIds(String keyword) {
+        return memberIndex.search(keyword);
+    }
+
+    /**
+     * Ids of members with a name word within one or two edits of each word
+     * of the query, closest first
+     */
+    public List<Long> fuzzySearchMemberIds(String query) {
+        return memberNameFuzzyIndex.search(query);
+    }
+
+    /**
+     * Best-ranked members whose name, any word of the name, or email starts
+     * with the prefix: full-name matches first, then shorter completions
+     */
+    public List<MemberSuggestionDTO> suggestMembers(String prefix, int limit) {
+        return memberTrie.suggest(prefix, limit).stream()
+                .map(memberSuggestions::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Ids of projects whose name or description contains the keyword, ascending
+     */
+    public List<Long> searchProjectIds(String keyword) {
+        return projectIndex.search(keyword);
+    }
+
+    public void indexMember(TeamMember member) {
+        long id = member.getId();
+        String name = member.getName();
+        String email = member.getEmail();
+        String role = member.getRole();
+        afterCommit(() -> apply(membersChangedDuringLoad, id, () -> putMember(id, name, email, role)));
+    }
+
+    public void removeMember(Long memberId) {
+        afterCommit(() -> apply(membersChangedDuringLoad, memberId, () -> deleteMember(memberId)));
+    }
+
+    public void removeMembers(Collection<Long> memberIds) {
+        List<Long> ids = List.copyOf(memberIds);
+        afterCommit(() -> ids.forEach(id -> apply(membersChangedDuringLoad, id, () -> deleteMember(id))));
+    }
+
+    public void indexProject(Project project) {
+        long id = project.getId();
+        String name = project.getName();
+        String description = project.getDescription();
+        afterCommit(() -> apply(projectsChangedDuringLoad, id, () -> projectIndex.put(id, name, description)));
+    }
+
+    public void removeProject(Long projectId) {
+        afterCommit(() -> apply(projectsChangedDuringLoad, projectId, () -> projectIndex.remove(projectId)));
+    }
+
+    private void putMember(long id, String name, String email, String role) {
+        memberIndex.put(id, name, email, role);
+        memberTrie.put(id, suggestionTerms(name, email));
+        memberNameFuzzyIndex.put(id, name);
+        memberSuggestions.put(id, MemberSuggestionDTO.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .build());
+    }
+
+    private void deleteMember(long id) {
+        memberIndex.remove(id);
+        memberTrie.remove(id);
+        memberNameFuzzyIndex.remove(id);
+        memberSuggestions.remove(id);
+    }
+
+    /**
+     * Autocomplete terms, most important first: the full name, each later
+     * word of the name (so "smi" finds "John Smith"), then the email
+     */
+    private static String[] suggestionTerms(String name, String email) {
+        List<String> terms = new ArrayList<>();
+        if (name != null) {
+            String[] words = name.trim().split("\\s+");
+            terms.add(name);
+            terms.addAll(Arrays.asList(words).subList(Math.min(1, words.length), words.length));
+        }
+        terms.add(email);
+        return terms.toArray(new String[0]);
+    }
+
+    private synchronized void apply(Set<Long> changedDuringLoad, long id, Runnable change) {
+        if (loading) {
+            changedDuringLoad.add(id);
+        }
+        change.run();
+    }
+
+    private synchronized void load(Set<Long> changedDuringLoad, long id, Runnable change) {
+        if (!changedDuringLoad.contains(id)) {
+            change.run();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.dto.response.ProjectSummaryDTO;
+import com.desh.teammanagement.dto.response.TeamSummaryDTO;
+import com.desh.teammanagement.repository.ProjectRepository;
+import com.desh.teammanagement.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of TeamSummaryDTO and ProjectSummaryDTO, keyed by id
+ *
+ * The same few hundred teams are embedded in almost every member and project
+ * response, so their summaries are served from memory and only misses go to
+ * the database - in bulk, one query per batch of ids.
+ *
+ * Write paths must call evictTeam / evictProject for whatever they change.
+ * Eviction happens immediately and again when the surrounding transaction
+ * completes, so a summary re-read from uncommitted (or rolled back) data
+ * during the write is not left behind. With read replicas (see
+ * DataSourceRoutingConfig) it is evicted once more after the replica lag
+ * window, since a summary loaded from a lagging replica may predate the write.
+ */
+@Service
+@RequiredArgsConstructor
+public class SummaryCacheService {
+
+    public static final String TEAM_SUMMARIES = "teamSummaries";
+    public static final String PROJECT_SUMMARIES = "projectSummaries";
+
+    // Keep IN lists well under SQL Server's ~2100 bind parameter limit
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final CacheManager cacheManager;
+    private final TeamRepository teamRepository;
+    private final ProjectRepository projectRepository;
+
+    @Value("${app.datasource.routing.enabled:false}")
+    private boolean replicaRouting;
+
+    @Value("${app.datasource.routing.replica-max-lag:5s}")
+    private Duration replicaMaxLag;
+
+    public TeamSummaryDTO getTeamSummary(Long teamId) {
+        return getTeamSummaries(List.of(teamId)).get(teamId);
+    }
+
+    public Map<Long, TeamSummaryDTO> getTeamSummaries(Collection<Long> teamIds) {
+        return readThrough(cache(TEAM_SUMMARIES), teamIds, TeamSummaryDTO.class, TeamSummaryDTO::getId,
+                missingIds -> teamRepository.findAllWithCountsByIdIn(missingIds).stream()
+                        .map(team -> TeamSummaryDTO.builder()
+                                .id(team.getId())
+                                .name(team.getName())
+                                .memberCount(team.getMemberCount())
+                                .build())
+                        .toList());
+    }
+
+    public Map<Long, ProjectSummaryDTO> getProjectSummaries(Collection<Long> projectIds) {
+        return readThrough(cache(PROJECT_SUMMARIES), projectIds, ProjectSummaryDTO.class, ProjectSummaryDTO::getId,
+                missingIds -> projectRepository.findCountsByIdIn(missingIds).stream()
+                        .map(project -> ProjectSummaryDTO.builder()
+                                .id(project.getId())
+                                .name(project.getName())
+                                .teamCount(project.getTeamCount())
+                                .build())
+                        .toList());
+    }
+
+    public void evictTeam(Long teamId) {
+        evict(cache(TEAM_SUMMARIES), teamId);
+    }
+
+    public void evictTeams(Collection<Long> teamIds) {
+        teamIds.forEach(this::evictTeam);
+    }
+
+    public void evictProject(Long projectId) {
+        evict(cache(PROJECT_SUMMARIES), projectId);
+    }
+
+    public void evictProjects(Collection<Long> projectIds) {
+        projectIds.forEach(this::evictProject);
+    }
+
+    private <T> Map<Long, T> readThrough(
+            Cache cache,
+            Collection<Long> ids,
+            Class<T> type,
+            Function<T, Long> idExtractor,
+            Function<List<Long>, List<T>> loader
+    ) {
+        Map<Long, T> result = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+
+        for (Long id : ids) {
+            if (id == null || result.containsKey(id)) {
+                continue;
+            }
+            T cached = cache.get(id, type);
+            if (cached != null) {
+                result.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        List<Long> missingIds = new ArrayList<>(missing);
+
+        for (int from = 0; from < missingIds.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> batch = missingIds.subList(from, Math.min(from + LOAD_BATCH_SIZE, missingIds.size()));
+            for (T loaded : loader.apply(batch)) {
+                Long id = idExtractor.apply(loaded);
+                cache.put(id, loaded);
+                result.put(id, loaded);
+            }
+        }
+
+        return result;
+    }
+
+    private void evict(Cache cache, Long id) {
+        if (id == null) {
+            return;
+        }
+        cache.evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(id);
+                    if (replicaRouting) {
+                        CompletableFuture.delayedExecutor(replicaMaxLag.toMillis(), TimeUnit.MILLISECONDS)
+                                .execute(() -> cache.evict(id));
+                    }
+                }
+            });
+        }
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), "Cache not configured: " + name);
+    }
+}
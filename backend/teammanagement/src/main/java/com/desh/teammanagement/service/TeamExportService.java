@@ -0,0 +1,51 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.exporter.TeamExportWriter;
+import com.desh.teammanagement.repository.ProjectRepository;
+import com.desh.teammanagement.repository.TeamRepository;
+import com.desh.teammanagement.repository.projection.ProjectLinkExportRow;
+import com.desh.teammanagement.repository.projection.TeamMemberExportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Feeds the team export from scrolling scalar queries.
+ *
+ * Rows go straight from the JDBC cursor to the writer - no entities are
+ * hydrated and nothing is collected, so the export size is not limited
+ * by heap. The two cursors are read one after the other, never at once.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeamExportService {
+
+    private final TeamRepository teamRepository;
+    private final ProjectRepository projectRepository;
+
+    public void exportTeams(TeamExportWriter writer) {
+        try {
+            try (Stream<TeamMemberExportRow> rows = teamRepository.streamTeamMemberRows()) {
+                Iterator<TeamMemberExportRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeTeamMember(iterator.next());
+                }
+            }
+
+            try (Stream<ProjectLinkExportRow> rows = projectRepository.streamProjectLinkRows()) {
+                Iterator<ProjectLinkExportRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeProjectLink(iterator.next());
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write team export", ex);
+        }
+    }
+}
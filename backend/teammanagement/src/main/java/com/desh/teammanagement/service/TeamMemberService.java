@@ -1,6 +1,14 @@
 package com.desh.teammanagement.service;
 
+import com.desh.teammanagement.dto.request.MemberUpsertRequestDTO;
 import com.desh.teammanagement.dto.request.TeamMemberRequestDTO;
+import com.desh.teammanagement.dto.response.CursorPageResponseDTO;
+import com.desh.teammanagement.dto.response.MemberFacetsDTO;
+import com.desh.teammanagement.dto.response.MemberQueryResponseDTO;
+import com.desh.teammanagement.dto.response.MemberSuggestionDTO;
+import com.desh.teammanagement.dto.response.MemberUpsertResultDTO;
+import com.desh.teammanagement.dto.response.RoleFacetDTO;
+import com.desh.teammanagement.dto.response.TeamFacetDTO;
 import com.desh.teammanagement.dto.response.TeamMemberResponseDTO;
 import com.desh.teammanagement.dto.response.TeamSummaryDTO;
 import com.desh.teammanagement.entity.Team;
@@ -10,12 +18,36 @@ import com.desh.teammanagement.exception.InvalidOperationException;
 import com.desh.teammanagement.exception.ResourceNotFoundException;
 import com.desh.teammanagement.repository.TeamMemberRepository;
 import com.desh.teammanagement.repository.TeamRepository;
+import com.desh.teammanagement.repository.projection.MemberUpsertRow;
+import com.desh.teammanagement.repository.projection.RoleTeamCount;
+import com.desh.teammanagement.repository.projection.TeamMemberCountView;
+import com.desh.teammanagement.repository.specification.TeamMemberSpecifications;
+import com.desh.teammanagement.search.PrefixTrie;
+import com.desh.teammanagement.util.KeysetCursor;
+import com.desh.teammanagement.util.LikePatterns;
+import com.desh.teammanagement.util.UniqueConstraints;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,12 +56,27 @@ public class TeamMemberService {
 
     private final TeamMemberRepository memberRepository;
     private final TeamRepository teamRepository;
+    private final EntityManager entityManager;
+    private final SummaryCacheService summaryCache;
+    private final SearchIndexService searchIndex;
+    private final UniquenessFilterService uniquenessFilter;
+    private final Validator validator;
+
+    // Clear the persistence context this often while streaming an export
+    private static final int EXPORT_CLEAR_INTERVAL = 1000;
+
+    // Search hits are loaded by primary key in batches of this many ids
+    private static final int SEARCH_LOAD_BATCH_SIZE = 1000;
+
+    private static final int DEFAULT_SUGGEST_LIMIT = 10;
+
+    // Orderings an index can serve: the primary key, the unique email and IX_TeamMember_name
+    private static final Set<String> QUERY_SORT_COLUMNS = Set.of("id", "name", "email");
 
     public TeamMemberResponseDTO createMember(TeamMemberRequestDTO requestDTO) {
-        if (memberRepository.existsByEmail(requestDTO.getEmail())) {
-            throw new DuplicateResourceException(
-                    "Member with email '" + requestDTO.getEmail() + "' already exists"
-            );
+        if (uniquenessFilter.memberEmailMayExist(requestDTO.getEmail())
+                && memberRepository.existsByEmail(requestDTO.getEmail())) {
+            throw duplicateEmail(requestDTO.getEmail(), null);
         }
 
         TeamMember member = new TeamMember();
@@ -43,17 +90,66 @@ public class TeamMemberService {
                             "Team not found with id: " + requestDTO.getTeamId()
                     ));
             member.setTeam(team);
+            summaryCache.evictTeam(team.getId());
         }
 
-        TeamMember savedMember = memberRepository.save(member);
+        TeamMember savedMember = saveWithUniqueEmail(member, true);
+        searchIndex.indexMember(savedMember);
         return convertToResponseDTO(savedMember);
     }
 
     @Transactional(readOnly = true)
     public List<TeamMemberResponseDTO> getAllMembers() {
-        return memberRepository.findAll().stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return convertToResponseDTOs(memberRepository.findAll());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TeamMemberResponseDTO> getMembersPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        List<TeamMember> rows = memberRepository.findPageAfter(
+                KeysetCursor.decode(cursor), Limit.of(pageSize + 1));
+        Map<Long, TeamSummaryDTO> teamSummaries = loadTeamSummaries(rows);
+        return KeysetCursor.toPage(rows, pageSize, TeamMember::getId,
+                member -> convertToResponseDTO(member, teamSummaries));
+    }
+
+    /**
+     * Push every member to the sink one at a time, for streaming exports.
+     * Rows come from a forward-only cursor and the persistence context is
+     * cleared as we go, so heap use does not grow with the table size.
+     */
+    @Transactional(readOnly = true)
+    public void exportAllMembers(Consumer<TeamMemberResponseDTO> sink) {
+        Map<Long, Integer> memberCounts = memberRepository.countMembersGroupedByTeam().stream()
+                .collect(Collectors.toMap(
+                        TeamMemberCountView::getTeamId,
+                        view -> (int) view.getMemberCount()
+                ));
+
+        // Built from the counts above rather than the summary cache: a cache miss
+        // would run a query while the export cursor is still open
+        Map<Long, TeamSummaryDTO> teamSummaries = new HashMap<>();
+
+        try (Stream<TeamMember> members = memberRepository.streamAllWithTeam()) {
+            Iterator<TeamMember> iterator = members.iterator();
+            int processed = 0;
+            while (iterator.hasNext()) {
+                TeamMember member = iterator.next();
+                TeamSummaryDTO teamSummary = null;
+                if (member.getTeam() != null) {
+                    Team team = member.getTeam();
+                    teamSummary = teamSummaries.computeIfAbsent(team.getId(), teamId -> TeamSummaryDTO.builder()
+                            .id(teamId)
+                            .name(team.getName())
+                            .memberCount(memberCounts.getOrDefault(teamId, 0))
+                            .build());
+                }
+                sink.accept(convertToResponseDTO(member, teamSummary));
+                if (++processed % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
     }
 
     @Transactional(readOnly = true)
@@ -72,22 +168,176 @@ public class TeamMemberService {
         }
 
         List<TeamMember> members = memberRepository.findByTeamId(teamId);
-        return members.stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return convertToResponseDTOs(members);
     }
 
     @Transactional(readOnly = true)
     public List<TeamMemberResponseDTO> getMembersByRole(String role) {
-        return memberRepository.findByRole(role).stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return convertToResponseDTOs(memberRepository.findByRole(role));
     }
 
     @Transactional(readOnly = true)
     public List<TeamMemberResponseDTO> searchMembersByName(String keyword) {
-        return memberRepository.findByNameContainingIgnoreCase(keyword).stream()
-                .map(this::convertToResponseDTO)
+        if (!searchIndex.isReady()) {
+            return convertToResponseDTOs(memberRepository.searchMembers(LikePatterns.escape(keyword)));
+        }
+
+        return convertToResponseDTOs(findAllInOrder(searchIndex.searchMemberIds(keyword)));
+    }
+
+    /**
+     * Typo-tolerant name search: every word of the keyword may be one or
+     * two edits away from a word of the name. Closest matches first.
+     */
+    @Transactional(readOnly = true)
+    public List<TeamMemberResponseDTO> fuzzySearchMembersByName(String keyword) {
+        if (!searchIndex.isReady()) {
+            return convertToResponseDTOs(memberRepository.findByNameContainingIgnoreCase(keyword));
+        }
+        return convertToResponseDTOs(findAllInOrder(searchIndex.fuzzySearchMemberIds(keyword)));
+    }
+
+    /**
+     * Filter members by any combination of name prefix, email prefix, role
+     * and team, one keyset page at a time. Sort is id, name or email,
+     * prefixed with "-" for descending; ties are broken by id.
+     * With facets, also returns per-role and per-team counts (see buildFacets).
+     */
+    @Transactional(readOnly = true)
+    public MemberQueryResponseDTO queryMembers(
+            String name,
+            String email,
+            String role,
+            Long teamId,
+            String sort,
+            String cursor,
+            Integer size,
+            boolean facets
+    ) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+
+        String sortKey = sort == null || sort.isBlank() ? "id" : sort.trim();
+        boolean descending = sortKey.startsWith("-");
+        String column = descending ? sortKey.substring(1) : sortKey;
+        if (!QUERY_SORT_COLUMNS.contains(column)) {
+            throw new InvalidOperationException(
+                    "Unsupported sort '" + sortKey + "', use id, name or email (prefix with - for descending)"
+            );
+        }
+
+        List<Specification<TeamMember>> textFilters = new ArrayList<>();
+        if (name != null && !name.isBlank()) {
+            textFilters.add(TeamMemberSpecifications.nameStartsWith(name.trim()));
+        }
+        if (email != null && !email.isBlank()) {
+            textFilters.add(TeamMemberSpecifications.emailStartsWith(email.trim()));
+        }
+
+        String roleFilter = role != null && !role.isBlank() ? role.trim() : null;
+        List<Specification<TeamMember>> filters = new ArrayList<>(textFilters);
+        if (roleFilter != null) {
+            filters.add(TeamMemberSpecifications.hasRole(roleFilter));
+        }
+        if (teamId != null) {
+            filters.add(TeamMemberSpecifications.inTeam(teamId));
+        }
+
+        KeysetCursor.SortedPosition position = KeysetCursor.decodeSorted(cursor, sortKey);
+        if (position != null) {
+            filters.add(column.equals("id")
+                    ? TeamMemberSpecifications.idAfter(position.id(), descending)
+                    : TeamMemberSpecifications.after(column, position.value(), position.id(), descending));
+        }
+
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort order = column.equals("id")
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, column).and(Sort.by(direction, "id"));
+
+        List<TeamMember> rows = memberRepository.findBy(Specification.allOf(filters),
+                query -> query.sortBy(order).limit(pageSize + 1).all());
+
+        Map<Long, TeamSummaryDTO> teamSummaries = loadTeamSummaries(rows);
+        CursorPageResponseDTO<TeamMemberResponseDTO> page = KeysetCursor.toSortedPage(rows, pageSize,
+                member -> KeysetCursor.encodeSorted(sortKey, sortValue(member, column), member.getId()),
+                member -> convertToResponseDTO(member, teamSummaries));
+
+        return MemberQueryResponseDTO.builder()
+                .page(page)
+                .facets(facets ? buildFacets(textFilters, roleFilter, teamId) : null)
+                .build();
+    }
+
+    /**
+     * Per-role and per-team counts from one grouped (role, team) query over
+     * the name/email filters. Each facet ignores its own filter but applies
+     * the other one, so the role counts show what picking another role
+     * would return within the selected team, and vice versa.
+     */
+    private MemberFacetsDTO buildFacets(List<Specification<TeamMember>> textFilters, String role, Long teamId) {
+        List<RoleTeamCount> counts = memberRepository.countByRoleAndTeam(Specification.allOf(textFilters));
+
+        Map<String, Long> roleCounts = new HashMap<>();
+        Map<Long, Long> teamCounts = new HashMap<>();
+        for (RoleTeamCount count : counts) {
+            if (teamId == null || teamId.equals(count.teamId())) {
+                roleCounts.merge(count.role(), count.count(), Long::sum);
+            }
+            // SQL Server compares roles case-insensitively, so the facet does too
+            if (role == null || role.equalsIgnoreCase(count.role())) {
+                teamCounts.merge(count.teamId(), count.count(), Long::sum);
+            }
+        }
+
+        Set<Long> teamIds = teamCounts.keySet().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, TeamSummaryDTO> teamSummaries = teamIds.isEmpty() ? Map.of() : summaryCache.getTeamSummaries(teamIds);
+
+        return MemberFacetsDTO.builder()
+                .roles(roleCounts.entrySet().stream()
+                        .map(entry -> RoleFacetDTO.builder()
+                                .role(entry.getKey())
+                                .count(entry.getValue())
+                                .build())
+                        .sorted(Comparator.comparingLong(RoleFacetDTO::getCount).reversed()
+                                .thenComparing(RoleFacetDTO::getRole, Comparator.nullsLast(Comparator.naturalOrder())))
+                        .collect(Collectors.toList()))
+                .teams(teamCounts.entrySet().stream()
+                        .map(entry -> TeamFacetDTO.builder()
+                                .teamId(entry.getKey())
+                                .teamName(entry.getKey() != null && teamSummaries.containsKey(entry.getKey())
+                                        ? teamSummaries.get(entry.getKey()).getName()
+                                        : null)
+                                .count(entry.getValue())
+                                .build())
+                        .sorted(Comparator.comparingLong(TeamFacetDTO::getCount).reversed()
+                                .thenComparing(TeamFacetDTO::getTeamId, Comparator.nullsLast(Comparator.naturalOrder())))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<MemberSuggestionDTO> suggestMembers(String prefix, Integer limit) {
+        int maxResults = limit != null ? limit : DEFAULT_SUGGEST_LIMIT;
+        if (maxResults < 1) {
+            throw new InvalidOperationException("Limit must be at least 1");
+        }
+        maxResults = Math.min(maxResults, PrefixTrie.MAX_RESULTS);
+
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        if (searchIndex.isReady()) {
+            return searchIndex.suggestMembers(prefix, maxResults);
+        }
+        return memberRepository.findByNameStartingWithIgnoreCaseOrderByNameAsc(prefix.trim(), Limit.of(maxResults))
+                .stream()
+                .map(member -> MemberSuggestionDTO.builder()
+                        .id(member.getId())
+                        .name(member.getName())
+                        .email(member.getEmail())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -97,11 +347,11 @@ public class TeamMemberService {
                         "Team member not found with id: " + id
                 ));
 
-        if (!member.getEmail().equals(requestDTO.getEmail())) {
-            if (memberRepository.existsByEmail(requestDTO.getEmail())) {
-                throw new DuplicateResourceException(
-                        "Member with email '" + requestDTO.getEmail() + "' already exists"
-                );
+        boolean emailChanged = !member.getEmail().equals(requestDTO.getEmail());
+        if (emailChanged) {
+            if (uniquenessFilter.memberEmailMayExist(requestDTO.getEmail())
+                    && memberRepository.existsByEmail(requestDTO.getEmail())) {
+                throw duplicateEmail(requestDTO.getEmail(), null);
             }
         }
 
@@ -109,6 +359,7 @@ public class TeamMemberService {
         member.setEmail(requestDTO.getEmail());
         member.setRole(requestDTO.getRole());
 
+        Long previousTeamId = teamIdOf(member);
         if (requestDTO.getTeamId() != null) {
             Team team = teamRepository.findById(requestDTO.getTeamId())
                     .orElseThrow(() -> new ResourceNotFoundException(
@@ -118,11 +369,67 @@ public class TeamMemberService {
         } else {
             member.setTeam(null);
         }
+        evictIfTeamChanged(previousTeamId, teamIdOf(member));
 
-        TeamMember updatedMember = memberRepository.save(member);
+        TeamMember updatedMember = saveWithUniqueEmail(member, emailChanged);
+        searchIndex.indexMember(updatedMember);
         return convertToResponseDTO(updatedMember);
     }
 
+    /**
+     * Create or update the member with this email in a single statement, so
+     * a directory sync needs no lookup first and concurrent syncs of the
+     * same person cannot both insert
+     */
+    public MemberUpsertResultDTO upsertMemberByEmail(String email, MemberUpsertRequestDTO requestDTO) {
+        Set<ConstraintViolation<TeamMemberRequestDTO>> violations =
+                validator.validateValue(TeamMemberRequestDTO.class, "email", email);
+        if (!violations.isEmpty()) {
+            throw new InvalidOperationException(violations.iterator().next().getMessage());
+        }
+
+        Long teamId = requestDTO.getTeamId();
+        // Usually a cache hit, and spares the statement a foreign key failure
+        if (teamId != null && summaryCache.getTeamSummary(teamId) == null) {
+            throw new ResourceNotFoundException("Team not found with id: " + teamId);
+        }
+
+        MemberUpsertRow row;
+        try {
+            row = memberRepository.upsertByEmail(email, requestDTO.getName(), requestDTO.getRole(), teamId);
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraints.isViolation(ex, UniqueConstraints.MEMBER_EMAIL)) {
+                throw duplicateEmail(email, ex);
+            }
+            throw ex;
+        }
+
+        if (row.created()) {
+            if (teamId != null) {
+                summaryCache.evictTeam(teamId);
+            }
+        } else {
+            evictIfTeamChanged(row.previousTeamId(), teamId);
+        }
+
+        TeamMember member = new TeamMember();
+        member.setId(row.id());
+        member.setName(requestDTO.getName());
+        member.setEmail(email);
+        member.setRole(requestDTO.getRole());
+        member.setCreatedAt(row.createdAt());
+        member.setUpdatedAt(row.updatedAt());
+        searchIndex.indexMember(member);
+        if (row.created()) {
+            uniquenessFilter.recordMemberEmail(email);
+        }
+
+        return MemberUpsertResultDTO.builder()
+                .created(row.created())
+                .member(convertToResponseDTO(member, teamId != null ? summaryCache.getTeamSummary(teamId) : null))
+                .build();
+    }
+
     public TeamMemberResponseDTO assignToTeam(Long memberId, Long teamId) {
         TeamMember member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -134,6 +441,7 @@ public class TeamMemberService {
                         "Team not found with id: " + teamId
                 ));
 
+        evictIfTeamChanged(teamIdOf(member), team.getId());
         member.setTeam(team);
         TeamMember updatedMember = memberRepository.save(member);
         return convertToResponseDTO(updatedMember);
@@ -151,21 +459,120 @@ public class TeamMemberService {
             );
         }
 
+        summaryCache.evictTeam(teamIdOf(member));
         member.setTeam(null);
         TeamMember updatedMember = memberRepository.save(member);
         return convertToResponseDTO(updatedMember);
     }
 
     public void deleteMember(Long id) {
-        if (!memberRepository.existsById(id)) {
-            throw new ResourceNotFoundException(
-                    "Team member not found with id: " + id
-            );
+        TeamMember member = memberRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Team member not found with id: " + id
+                ));
+        Long teamId = teamIdOf(member);
+        memberRepository.delete(member);
+        searchIndex.removeMember(id);
+        if (teamId != null) {
+            summaryCache.evictTeam(teamId);
+        }
+    }
+
+    /**
+     * Load members by id, in batches, keeping the order of the given ids
+     */
+    private List<TeamMember> findAllInOrder(List<Long> ids) {
+        Map<Long, TeamMember> membersById = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += SEARCH_LOAD_BATCH_SIZE) {
+            memberRepository.findAllById(ids.subList(from, Math.min(from + SEARCH_LOAD_BATCH_SIZE, ids.size())))
+                    .forEach(member -> membersById.put(member.getId(), member));
         }
-        memberRepository.deleteById(id);
+        return ids.stream()
+                .map(membersById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static String sortValue(TeamMember member, String column) {
+        return switch (column) {
+            case "name" -> member.getName();
+            case "email" -> member.getEmail();
+            default -> null;
+        };
+    }
+
+    /**
+     * Team id without initializing the lazy team proxy
+     */
+    private Long teamIdOf(TeamMember member) {
+        return member.getTeam() != null ? member.getTeam().getId() : null;
+    }
+
+    // A member moving between teams changes both teams' member counts
+    private void evictIfTeamChanged(Long previousTeamId, Long newTeamId) {
+        if (Objects.equals(previousTeamId, newTeamId)) {
+            return;
+        }
+        if (previousTeamId != null) {
+            summaryCache.evictTeam(previousTeamId);
+        }
+        if (newTeamId != null) {
+            summaryCache.evictTeam(newTeamId);
+        }
+    }
+
+    /**
+     * Flush now so a concurrent insert of the same email surfaces here as a
+     * duplicate rather than as a constraint error at commit. Only a new email
+     * is recorded in the uniqueness filter.
+     */
+    private TeamMember saveWithUniqueEmail(TeamMember member, boolean newEmail) {
+        TeamMember saved;
+        try {
+            saved = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraints.isViolation(ex, UniqueConstraints.MEMBER_EMAIL)) {
+                throw duplicateEmail(member.getEmail(), ex);
+            }
+            throw ex;
+        }
+        if (newEmail) {
+            uniquenessFilter.recordMemberEmail(saved.getEmail());
+        }
+        return saved;
     }
 
-    private TeamMemberResponseDTO convertToResponseDTO(TeamMember member) {
+    private static DuplicateResourceException duplicateEmail(String email, Throwable cause) {
+        return new DuplicateResourceException("Member with email '" + email + "' already exists", cause);
+    }
+
+    private Map<Long, TeamSummaryDTO> loadTeamSummaries(List<TeamMember> members) {
+        Set<Long> teamIds = members.stream()
+                .map(this::teamIdOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return teamIds.isEmpty() ? Map.of() : summaryCache.getTeamSummaries(teamIds);
+    }
+
+    private List<TeamMemberResponseDTO> convertToResponseDTOs(List<TeamMember> members) {
+        Map<Long, TeamSummaryDTO> teamSummaries = loadTeamSummaries(members);
+        return members.stream()
+                .map(member -> convertToResponseDTO(member, teamSummaries))
+                .collect(Collectors.toList());
+    }
+
+    private TeamMemberResponseDTO convertToResponseDTO(TeamMember member, Map<Long, TeamSummaryDTO> teamSummaries) {
+        Long teamId = teamIdOf(member);
+        return convertToResponseDTO(member, teamId != null ? teamSummaries.get(teamId) : null);
+    }
+
+    // Package-private for ConversionBenchmark (src/jmh)
+    TeamMemberResponseDTO convertToResponseDTO(TeamMember member) {
+        Long teamId = teamIdOf(member);
+        return convertToResponseDTO(member, teamId != null ? summaryCache.getTeamSummary(teamId) : null);
+    }
+
+    private TeamMemberResponseDTO convertToResponseDTO(TeamMember member, TeamSummaryDTO teamSummary) {
         TeamMemberResponseDTO.TeamMemberResponseDTOBuilder builder = TeamMemberResponseDTO.builder()
                 .id(member.getId())
                 .name(member.getName())
@@ -174,16 +581,6 @@ public class TeamMemberService {
                 .createdAt(member.getCreatedAt())
                 .updatedAt(member.getUpdatedAt());
 
-        if (member.getTeam() != null) {
-            Team team = member.getTeam();
-            TeamSummaryDTO teamSummary = TeamSummaryDTO.builder()
-                    .id(team.getId())
-                    .name(team.getName())
-                    .memberCount(team.getTeamMembers() != null ? team.getTeamMembers().size() : 0)
-                    .build();
-            builder.team(teamSummary);
-        }
-
-        return builder.build();
+        return builder.team(teamSummary).build();
     }
 }
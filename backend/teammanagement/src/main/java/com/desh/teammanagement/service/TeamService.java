@@ -2,16 +2,25 @@ package com.desh.teammanagement.service;
 
 import com.desh.teammanagement.dto.request.TeamRequestDTO;
 import com.desh.teammanagement.dto.response.*;
+import com.desh.teammanagement.entity.Project;
 import com.desh.teammanagement.entity.Team;
 import com.desh.teammanagement.entity.TeamMember;
 import com.desh.teammanagement.exception.DuplicateResourceException;
 import com.desh.teammanagement.exception.ResourceNotFoundException;
+import com.desh.teammanagement.repository.ProjectRepository;
 import com.desh.teammanagement.repository.TeamRepository;
+import com.desh.teammanagement.repository.projection.TeamCountsView;
+import com.desh.teammanagement.util.KeysetCursor;
+import com.desh.teammanagement.util.UniqueConstraints;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -21,33 +30,51 @@ import java.util.stream.Collectors;
 public class TeamService {
 
     private final TeamRepository teamRepository;
+    private final ProjectRepository projectRepository;
+    private final SummaryCacheService summaryCache;
+    private final SearchIndexService searchIndex;
+    private final UniquenessFilterService uniquenessFilter;
 
     public TeamResponseDTO createTeam(TeamRequestDTO requestDTO) {
-        if (teamRepository.existsByName(requestDTO.getName())) {
-            throw new DuplicateResourceException(
-                    "Team with name '" + requestDTO.getName() + "' already exists"
-            );
+        if (uniquenessFilter.teamNameMayExist(requestDTO.getName())
+                && teamRepository.existsByName(requestDTO.getName())) {
+            throw duplicateName(requestDTO.getName(), null);
         }
 
         Team team = new Team();
         team.setName(requestDTO.getName());
         team.setDescription(requestDTO.getDescription());
 
-        Team savedTeam = teamRepository.save(team);
+        Team savedTeam = saveWithUniqueName(team, true);
         return convertToResponseDTO(savedTeam);
     }
 
     @Transactional(readOnly = true)
     public List<TeamResponseDTO> getAllTeams() {
-        List<Team> teams = teamRepository.findAll();
+        List<TeamCountsView> teams = teamRepository.findAllWithCounts();
         return teams.stream()
                 .map(this::convertToResponseDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TeamResponseDTO> getTeamsPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        List<TeamCountsView> rows = teamRepository.findPageWithCountsAfter(
+                KeysetCursor.decode(cursor), Limit.of(pageSize + 1));
+        return KeysetCursor.toPage(rows, pageSize, TeamCountsView::getId, this::convertToResponseDTO);
+    }
+
     @Transactional(readOnly = true)
     public List<TeamResponseDTO> getAllTeamsWithMembers() {
         List<Team> teams = teamRepository.findAllWithMembers();
+        // Initialize every team's projects in one query and load their summaries
+        // in one batch, instead of two queries per team during conversion
+        teamRepository.findAllWithProjects();
+        summaryCache.getProjectSummaries(teams.stream()
+                .flatMap(team -> team.getProjects().stream())
+                .map(Project::getId)
+                .collect(Collectors.toSet()));
         return teams.stream()
                 .map(this::convertToDetailedResponseDTO)
                 .collect(Collectors.toList());
@@ -55,7 +82,7 @@ public class TeamService {
 
     @Transactional(readOnly = true)
     public TeamResponseDTO getTeamById(Long id) {
-        Team team = teamRepository.findById(id)
+        TeamCountsView team = teamRepository.findByIdWithCounts(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Team not found with id: " + id
                 ));
@@ -73,7 +100,7 @@ public class TeamService {
 
     @Transactional(readOnly = true)
     public List<TeamResponseDTO> searchTeamsByName(String keyword) {
-        List<Team> teams = teamRepository.findByNameContainingIgnoreCase(keyword);
+        List<TeamCountsView> teams = teamRepository.searchByNameWithCounts(keyword);
         return teams.stream()
                 .map(this::convertToResponseDTO)
                 .collect(Collectors.toList());
@@ -85,28 +112,60 @@ public class TeamService {
                         "Team not found with id: " + id
                 ));
 
-        if (!team.getName().equals(requestDTO.getName())) {
-            if (teamRepository.existsByName(requestDTO.getName())) {
-                throw new DuplicateResourceException(
-                        "Team with name '" + requestDTO.getName() + "' already exists"
-                );
+        boolean nameChanged = !team.getName().equals(requestDTO.getName());
+        if (nameChanged) {
+            if (uniquenessFilter.teamNameMayExist(requestDTO.getName())
+                    && teamRepository.existsByName(requestDTO.getName())) {
+                throw duplicateName(requestDTO.getName(), null);
             }
         }
 
         team.setName(requestDTO.getName());
         team.setDescription(requestDTO.getDescription());
+        summaryCache.evictTeam(id);
 
-        Team updatedTeam = teamRepository.save(team);
+        Team updatedTeam = saveWithUniqueName(team, nameChanged);
         return convertToResponseDTO(updatedTeam);
     }
 
     public void deleteTeam(Long id) {
-        if (!teamRepository.existsById(id)) {
-            throw new ResourceNotFoundException(
-                    "Team not found with id: " + id
-            );
+        Team team = teamRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Team not found with id: " + id
+                ));
+        // Every project the team was on loses one from its team count
+        summaryCache.evictProjects(projectRepository.findIdsByTeamId(id));
+        summaryCache.evictTeam(id);
+        // Members are deleted along with the team (CascadeType.ALL)
+        searchIndex.removeMembers(team.getTeamMembers().stream()
+                .map(TeamMember::getId)
+                .collect(Collectors.toList()));
+        teamRepository.delete(team);
+    }
+
+    /**
+     * Flush now so a concurrent insert of the same name surfaces here as a
+     * duplicate rather than as a constraint error at commit. Only a new name
+     * is recorded in the uniqueness filter.
+     */
+    private Team saveWithUniqueName(Team team, boolean newName) {
+        Team saved;
+        try {
+            saved = teamRepository.saveAndFlush(team);
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraints.isViolation(ex, UniqueConstraints.TEAM_NAME)) {
+                throw duplicateName(team.getName(), ex);
+            }
+            throw ex;
+        }
+        if (newName) {
+            uniquenessFilter.recordTeamName(saved.getName());
         }
-        teamRepository.deleteById(id);
+        return saved;
+    }
+
+    private static DuplicateResourceException duplicateName(String name, Throwable cause) {
+        return new DuplicateResourceException("Team with name '" + name + "' already exists", cause);
     }
 
     private TeamResponseDTO convertToResponseDTO(Team team) {
@@ -121,17 +180,29 @@ public class TeamService {
                 .build();
     }
 
-    private TeamResponseDTO convertToDetailedResponseDTO(Team team) {
+    private TeamResponseDTO convertToResponseDTO(TeamCountsView team) {
+        return TeamResponseDTO.builder()
+                .id(team.getId())
+                .name(team.getName())
+                .description(team.getDescription())
+                .createdAt(team.getCreatedAt())
+                .updatedAt(team.getUpdatedAt())
+                .memberCount(team.getMemberCount())
+                .projectCount(team.getProjectCount())
+                .build();
+    }
+
+    // Package-private for ConversionBenchmark (src/jmh)
+    TeamResponseDTO convertToDetailedResponseDTO(Team team) {
         Set<TeamMemberSummaryDTO> memberDTOs = team.getTeamMembers().stream()
                 .map(this::convertToMemberSummaryDTO)
                 .collect(Collectors.toSet());
 
+        Map<Long, ProjectSummaryDTO> projectSummaries = summaryCache.getProjectSummaries(
+                team.getProjects().stream().map(Project::getId).collect(Collectors.toList()));
         Set<ProjectSummaryDTO> projectDTOs = team.getProjects().stream()
-                .map(project -> ProjectSummaryDTO.builder()
-                        .id(project.getId())
-                        .name(project.getName())
-                        .teamCount(project.getTeams() != null ? project.getTeams().size() : 0)
-                        .build())
+                .map(project -> projectSummaries.get(project.getId()))
+                .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
         return TeamResponseDTO.builder()
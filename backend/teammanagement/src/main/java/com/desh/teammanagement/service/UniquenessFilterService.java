@@ -0,0 +1,136 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.repository.ProjectRepository;
+import com.desh.teammanagement.repository.TeamMemberRepository;
+import com.desh.teammanagement.repository.TeamRepository;
+import com.desh.teammanagement.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filters over member emails, team names and project names, so the
+ * create/update paths can skip the existence query for values that are
+ * certainly new - the common case
+ *
+ * A "may exist" answer is confirmed with the usual exists query; the unique
+ * constraints in the database stay authoritative for races between the
+ * check and the insert. Values are only ever added: a renamed or deleted
+ * value leaves a false positive behind, which costs one query. Until the
+ * filters are loaded, and once one holds more values than it was sized for,
+ * every value may exist.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UniquenessFilterService {
+
+    private static final int MIN_EXPECTED_VALUES = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TeamMemberRepository memberRepository;
+    private final TeamRepository teamRepository;
+    private final ProjectRepository projectRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ValueFilter memberEmails = new ValueFilter();
+    private final ValueFilter teamNames = new ValueFilter();
+    private final ValueFilter projectNames = new ValueFilter();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFilters() {
+        try {
+            // The transaction runs inside the try: a failed load must not fail startup
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                memberEmails.load(memberRepository.count(), memberRepository::streamAllEmails);
+                teamNames.load(teamRepository.count(), teamRepository::streamAllNames);
+                projectNames.load(projectRepository.count(), projectRepository::streamAllNames);
+            });
+            log.info("Uniqueness filters loaded");
+        } catch (RuntimeException ex) {
+            log.error("Uniqueness filter load failed, uniqueness checks will query the database", ex);
+        }
+    }
+
+    public boolean memberEmailMayExist(String email) {
+        return memberEmails.mayContain(email);
+    }
+
+    public boolean teamNameMayExist(String name) {
+        return teamNames.mayContain(name);
+    }
+
+    public boolean projectNameMayExist(String name) {
+        return projectNames.mayContain(name);
+    }
+
+    public void recordMemberEmail(String email) {
+        memberEmails.add(email);
+    }
+
+    public void recordTeamName(String name) {
+        teamNames.add(name);
+    }
+
+    public void recordProjectName(String name) {
+        projectNames.add(name);
+    }
+
+    /**
+     * Values are compared the way SQL Server's default collation compares
+     * them for the unique index: case-insensitive, trailing spaces ignored
+     */
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT).stripTrailing();
+    }
+
+    private static final class ValueFilter {
+
+        // Null until the first load has finished
+        private volatile BloomFilter active;
+        // Filter being built; values added meanwhile go into both
+        private volatile BloomFilter loading;
+
+        void load(long count, Supplier<Stream<String>> values) {
+            BloomFilter filter = new BloomFilter(Math.max(MIN_EXPECTED_VALUES, count * 2), FALSE_POSITIVE_RATE);
+            loading = filter;
+            try (Stream<String> stream = values.get()) {
+                stream.forEach(value -> filter.put(normalize(value)));
+                // Publish before clearing, so no concurrent add misses both
+                active = filter;
+            } finally {
+                loading = null;
+            }
+        }
+
+        boolean mayContain(String value) {
+            BloomFilter filter = active;
+            return value == null || filter == null || filter.mightContain(normalize(value));
+        }
+
+        void add(String value) {
+            if (value == null) {
+                return;
+            }
+            String normalized = normalize(value);
+            BloomFilter building = loading;
+            if (building != null) {
+                building.put(normalized);
+            }
+            BloomFilter filter = active;
+            if (filter != null) {
+                filter.put(normalized);
+            }
+        }
+    }
+}
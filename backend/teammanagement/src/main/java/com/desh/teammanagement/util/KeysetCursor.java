@@ -0,0 +1,139 @@
+package com.desh.teammanagement.util;
+
+import com.desh.teammanagement.dto.response.CursorPageResponseDTO;
+import com.desh.teammanagement.exception.InvalidOperationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque continuation tokens for keyset (cursor) pagination
+ *
+ * A token wraps the id of the last row of the previous page, so the next
+ * page is read with "WHERE id > :afterId ORDER BY id" and costs the same
+ * clustered index seek no matter how deep the client has paged.
+ * Clients must treat the token as opaque and send it back unchanged.
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String PREFIX = "v1:";
+    private static final String SORTED_PREFIX = "s1:";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        String raw = PREFIX + lastId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a continuation token into the id to seek after.
+     * A missing token means "start from the beginning".
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidOperationException("Invalid page cursor");
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidOperationException("Invalid page cursor", ex);
+        }
+    }
+
+    /**
+     * Token for a page ordered by {@code sort} (then id): carries the sort
+     * value and id of the last row, and the sort it belongs to
+     */
+    public static String encodeSorted(String sort, String lastValue, Long lastId) {
+        String raw = SORTED_PREFIX + sort + ":" + lastId + ":" + (lastValue != null ? lastValue : "");
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token made by encodeSorted, or return null for a missing
+     * token. A token issued for a different sort is rejected.
+     */
+    public static SortedPosition decodeSorted(String cursor, String sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.startsWith(SORTED_PREFIX)
+                    ? raw.substring(SORTED_PREFIX.length()).split(":", 3)
+                    : new String[0];
+            if (parts.length != 3) {
+                throw new InvalidOperationException("Invalid page cursor");
+            }
+            if (!parts[0].equals(sort)) {
+                throw new InvalidOperationException("Page cursor was issued for sort '" + parts[0] + "'");
+            }
+            return new SortedPosition(parts[2], Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidOperationException("Invalid page cursor", ex);
+        }
+    }
+
+    public static int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new InvalidOperationException("Page size must be at least 1");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Build a page from rows fetched with a limit of pageSize + 1.
+     * The extra row only tells us whether another page exists.
+     */
+    public static <E, D> CursorPageResponseDTO<D> toPage(
+            List<E> rows,
+            int pageSize,
+            Function<E, Long> idExtractor,
+            Function<E, D> mapper
+    ) {
+        return toSortedPage(rows, pageSize, row -> encode(idExtractor.apply(row)), mapper);
+    }
+
+    /**
+     * Like toPage, for pages whose token is built from more than the id
+     */
+    public static <E, D> CursorPageResponseDTO<D> toSortedPage(
+            List<E> rows,
+            int pageSize,
+            Function<E, String> cursorEncoder,
+            Function<E, D> mapper
+    ) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CursorPageResponseDTO.<D>builder()
+                .items(pageRows.stream().map(mapper).collect(Collectors.toList()))
+                .size(pageRows.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorEncoder.apply(pageRows.get(pageRows.size() - 1)) : null)
+                .build();
+    }
+
+    /**
+     * Sort value and id of the last row of the previous page
+     */
+    public record SortedPosition(String value, long id) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.desh.teammanagement.util;
+
+/**
+ * Escaping of user input placed inside a LIKE pattern, so its characters
+ * match literally. Queries using it must declare ESCAPE '\'.
+ */
+public final class LikePatterns {
+
+    public static final char ESCAPE = '\\';
+
+    private LikePatterns() {
+    }
+
+    public static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            // '[' starts a character class in SQL Server LIKE patterns
+            if (c == '%' || c == '_' || c == '[' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
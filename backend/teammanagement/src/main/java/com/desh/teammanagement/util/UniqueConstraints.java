@@ -0,0 +1,37 @@
+package com.desh.teammanagement.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Names of the unique constraints that back the "already exists" checks,
+ * and detection of their violations
+ */
+public final class UniqueConstraints {
+
+    public static final String MEMBER_EMAIL = "UK_TeamMember_email";
+    public static final String TEAM_NAME = "UK_Team_name";
+    public static final String PROJECT_NAME = "UK_Project_name";
+
+    private UniqueConstraints() {
+    }
+
+    /**
+     * True when the exception was caused by the named unique constraint, or
+     * by a unique violation the dialect could not attribute to a constraint
+     */
+    public static boolean isViolation(DataIntegrityViolationException ex, String constraintName) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String violated = violation.getConstraintName();
+                if (violated != null) {
+                    return violated.toUpperCase(Locale.ROOT).contains(constraintName.toUpperCase(Locale.ROOT));
+                }
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,78 @@
+package com.desh.teammanagement;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The migration scripts under database/ only run against SQL Server; this
+ * checks every table and sequence they name is one Hibernate actually
+ * creates from the entities, so a script cannot target a logical name
+ * (TeamMember) instead of the physical one (team_member)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DatabaseScriptsTests {
+
+    private static final Path SCRIPTS = Path.of("../../database");
+
+    private static final Pattern OBJECT_REFERENCE = Pattern.compile(
+            "\\b(?:FROM|INTO|TABLE|REFERENCES|SEQUENCE|OBJECT_ID\\(N')\\s*'?(\\w+)(?![.\\w])",
+            Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void identityMigrationNamesPhysicalObjects() throws IOException {
+        Set<String> referenced = referencedObjects("migrate_identity_to_sequence.sql");
+
+        assertThat(referenced).contains("team", "team_member", "project", "project_team",
+                "team_seq", "team_member_seq", "project_seq");
+        assertThat(schemaObjects()).containsAll(referenced);
+    }
+
+    @Test
+    void uniqueConstraintMigrationNamesPhysicalTables() throws IOException {
+        Set<String> referenced = referencedObjects("add_named_unique_constraints.sql");
+
+        assertThat(referenced).containsExactlyInAnyOrder("team", "team_member", "project");
+        assertThat(schemaObjects()).containsAll(referenced);
+        assertThat(jdbc.queryForList("SELECT constraint_name FROM information_schema.table_constraints"
+                + " WHERE constraint_type = 'UNIQUE'", String.class))
+                .contains("UK_TEAMMEMBER_EMAIL", "UK_TEAM_NAME", "UK_PROJECT_NAME");
+    }
+
+    private Set<String> referencedObjects(String script) throws IOException {
+        String sql = Files.readString(SCRIPTS.resolve(script)).replaceAll("--[^\\n]*", "");
+        Set<String> names = new TreeSet<>();
+        Matcher matcher = OBJECT_REFERENCE.matcher(sql);
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            // scratch tables the script renames, and constraint lookups
+            if (!name.endsWith("_migrated") && !name.startsWith("UK_")) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    private Set<String> schemaObjects() {
+        return new TreeSet<>(jdbc.queryForList(
+                "SELECT LOWER(table_name) FROM information_schema.tables WHERE table_schema = 'PUBLIC'"
+                        + " UNION SELECT LOWER(sequence_name) FROM information_schema.sequences"
+                        + " WHERE sequence_schema = 'PUBLIC'", String.class));
+    }
+}
@@ -0,0 +1,156 @@
+package com.desh.teammanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * ETags and If-None-Match: an unchanged response is a 304, and every change
+ * to data a response is built from, including related rows, changes its ETag
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConditionalGetTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long teamId;
+    private long otherTeamId;
+    private long memberId;
+    private long projectId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        teamId = create("/api/teams", Map.of("name", "Conditional team"));
+        otherTeamId = create("/api/teams", Map.of("name", "Conditional other team"));
+        memberId = create("/api/members", Map.of("name", "Conditional member",
+                "email", "conditional@example.com", "role", "Analyst", "teamId", teamId));
+        projectId = create("/api/projects", Map.of("name", "Conditional project", "teamIds", List.of(teamId)));
+    }
+
+    @Test
+    void unchangedResourceIsNotModified() throws Exception {
+        for (String path : List.of("/api/teams/" + teamId, "/api/teams/" + teamId + "/stats",
+                "/api/members/" + memberId, "/api/projects/" + projectId)) {
+            String eTag = eTag(path);
+            assertThat(eTag).as(path).startsWith("\"");
+
+            MvcResult result = mvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag)).andReturn();
+
+            assertThat(result.getResponse().getStatus()).as(path).isEqualTo(304);
+            assertThat(result.getResponse().getContentAsString()).as(path).isEmpty();
+            assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).as(path).isEqualTo(eTag);
+        }
+    }
+
+    @Test
+    void unchangedCollectionIsNotModified() throws Exception {
+        for (String path : List.of("/api/teams", "/api/teams/page", "/api/members", "/api/members/page",
+                "/api/projects", "/api/projects/page")) {
+            String eTag = eTag(path);
+            assertThat(eTag).as(path).startsWith("W/\"");
+
+            MvcResult result = mvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag)).andReturn();
+
+            assertThat(result.getResponse().getStatus()).as(path).isEqualTo(304);
+        }
+    }
+
+    @Test
+    void staleETagGetsFullResponse() throws Exception {
+        MvcResult result = mvc.perform(get("/api/teams/{id}", teamId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\"")).andReturn();
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getContentAsString()).contains("Conditional team");
+    }
+
+    @Test
+    void renamingTeamChangesETagsOfResponsesEmbeddingIt() throws Exception {
+        String team = eTag("/api/teams/" + otherTeamId);
+        long member = create("/api/members", Map.of("name", "Conditional renamed member",
+                "email", "conditional-renamed@example.com", "teamId", otherTeamId));
+        String memberETag = eTag("/api/members/" + member);
+        String collection = eTag("/api/members");
+
+        mvc.perform(put("/api/teams/{id}", otherTeamId).contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("name", "Conditional renamed team"))));
+
+        assertThat(eTag("/api/teams/" + otherTeamId)).isNotEqualTo(team);
+        assertThat(eTag("/api/members/" + member)).isNotEqualTo(memberETag);
+        assertThat(eTag("/api/members")).isNotEqualTo(collection);
+    }
+
+    @Test
+    void linkingChangesETagsOnBothSides() throws Exception {
+        long team = create("/api/teams", Map.of("name", "Conditional linked team"));
+        long project = create("/api/projects", Map.of("name", "Conditional linked project"));
+        String teamETag = eTag("/api/teams/" + team);
+        String projectETag = eTag("/api/projects/" + project);
+
+        mvc.perform(post("/api/projects/{projectId}/teams/{teamId}", project, team));
+
+        assertThat(eTag("/api/teams/" + team)).isNotEqualTo(teamETag);
+        assertThat(eTag("/api/projects/" + project)).isNotEqualTo(projectETag);
+    }
+
+    @Test
+    void memberJoiningTeamChangesTeamAndProjectETags() throws Exception {
+        String team = eTag("/api/teams/" + teamId);
+        String project = eTag("/api/projects/" + projectId);
+
+        create("/api/members", Map.of("name", "Conditional new member",
+                "email", "conditional-new@example.com", "teamId", teamId));
+
+        assertThat(eTag("/api/teams/" + teamId)).isNotEqualTo(team);
+        assertThat(eTag("/api/projects/" + projectId)).isNotEqualTo(project);
+    }
+
+    @Test
+    void missingResourceHasNoETag() throws Exception {
+        MvcResult result = mvc.perform(get("/api/teams/{id}", Long.MAX_VALUE)).andReturn();
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(404);
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private String eTag(String path) throws Exception {
+        MvcResult result = mvc.perform(get(path).accept(MediaType.APPLICATION_JSON)).andReturn();
+        assertThat(result.getResponse().getStatus()).as("GET %s", path).isEqualTo(200);
+        return result.getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private long create(String path, Map<String, ?> body) throws Exception {
+        MvcResult result = mvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(json(body)))
+                .andReturn();
+        assertThat(result.getResponse().getStatus()).as("POST %s", path).isEqualTo(201);
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
@@ -0,0 +1,356 @@
+package com.desh.teammanagement.controller;
+
+import com.desh.teammanagement.support.StatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Maximum number of SQL statements per request, for every controller endpoint
+ *
+ * Budgets hold regardless of how many rows a request touches: the data set
+ * is large enough that an N+1 (one query per member, team or project) blows
+ * any of them. Each request runs with the summary caches cleared, i.e. the
+ * worst case. A new endpoint fails everyEndpointHasABudget until it gets a
+ * budget here; raising one needs a reason in the commit.
+ *
+ * Conditional GETs spend VERSION_CHECK on computing the ETag (see
+ * ETagService); with a matching If-None-Match that is all they spend.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryBudgetTests {
+
+    private static final int TEAMS = 6;
+    private static final int MEMBERS_PER_TEAM = 20;
+    private static final int PROJECTS = 12;
+    private static final int TEAMS_PER_PROJECT = 3;
+    private static final int IMPORT_ROWS = 50;
+
+    // An insert may first fetch the next block of ids from the sequence
+    private static final int ID_BLOCK = 1;
+
+    // The ETag query of a conditional GET
+    private static final int VERSION_CHECK = 1;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private StatementCounter statements;
+
+    private final List<Long> teamIds = new ArrayList<>();
+    private final List<Long> memberIds = new ArrayList<>();
+    private final List<Long> projectIds = new ArrayList<>();
+    private int uniqueSuffix;
+
+    @BeforeAll
+    void seed() throws Exception {
+        statements = new StatementCounter(entityManagerFactory);
+
+        // Through the API, so the search indexes and uniqueness filters know the data
+        for (int t = 0; t < TEAMS; t++) {
+            teamIds.add(create("/api/teams", Map.of("name", "Team " + t, "description", "Team number " + t)));
+            for (int m = 0; m < MEMBERS_PER_TEAM; m++) {
+                memberIds.add(create("/api/members", Map.of(
+                        "name", "Member " + t + "-" + m,
+                        "email", "member" + t + "-" + m + "@example.com",
+                        "role", m % 2 == 0 ? "Developer" : "Tester",
+                        "teamId", teamIds.get(t))));
+            }
+        }
+        for (int p = 0; p < PROJECTS; p++) {
+            Set<Long> linkedTeams = Stream.iterate(p, i -> i + 1).limit(TEAMS_PER_PROJECT)
+                    .map(i -> teamIds.get(i % TEAMS))
+                    .collect(Collectors.toSet());
+            projectIds.add(create("/api/projects", Map.of(
+                    "name", "Project " + p, "description", "Project number " + p, "teamIds", linkedTeams)));
+        }
+    }
+
+    Stream<Budget> budgets() {
+        return Stream.of(
+                // Teams
+                budget("POST /api/teams", "TeamController.createTeam", 1 + ID_BLOCK,
+                        () -> post("/api/teams").contentType(MediaType.APPLICATION_JSON)
+                                .content(json(Map.of("name", unique("New team"))))),
+                budget("GET /api/teams", "TeamController.getAllTeams", 1 + VERSION_CHECK,
+                        () -> get("/api/teams")),
+                budget("GET /api/teams?includeMembers=true", "TeamController.getAllTeams", 3 + VERSION_CHECK,
+                        () -> get("/api/teams").param("includeMembers", "true")),
+                budget("GET /api/teams/page", "TeamController.getTeamsPage", 1 + VERSION_CHECK,
+                        () -> get("/api/teams/page").param("size", "3")),
+                budget("GET /api/teams/{id}", "TeamController.getTeamById", 1 + VERSION_CHECK,
+                        () -> get("/api/teams/{id}", team(0))),
+                budget("GET /api/teams/{id}?includeMembers=true", "TeamController.getTeamById", 3 + VERSION_CHECK,
+                        () -> get("/api/teams/{id}", team(0)).param("includeMembers", "true")),
+                budget("GET /api/teams/search", "TeamController.searchTeams", 1,
+                        () -> get("/api/teams/search").param("keyword", "Team")),
+                budget("GET /api/teams/export.xlsx", "TeamController.exportTeamsXlsx", 2,
+                        () -> get("/api/teams/export.xlsx")),
+                budget("GET /api/teams/export.csv", "TeamController.exportTeamsCsv", 2,
+                        () -> get("/api/teams/export.csv")),
+                budget("PUT /api/teams/{id}", "TeamController.updateTeam", 4,
+                        () -> put("/api/teams/{id}", team(1)).contentType(MediaType.APPLICATION_JSON)
+                                .content(json(Map.of("name", "Team 1", "description", unique("Updated"))))),
+                budget("DELETE /api/teams/{id}", "TeamController.deleteTeam", 4,
+                        () -> delete("/api/teams/{id}", createTeam())),
+                budget("GET /api/teams/{id}/stats", "TeamController.getTeamStats", 1 + VERSION_CHECK,
+                        () -> get("/api/teams/{id}/stats", team(0))),
+                budget("GET /api/teams (304)", "TeamController.getAllTeams", VERSION_CHECK,
+                        () -> notModified(get("/api/teams"))),
+                budget("GET /api/teams/{id} (304)", "TeamController.getTeamById", VERSION_CHECK,
+                        () -> notModified(get("/api/teams/{id}", team(0)).param("includeMembers", "true"))),
+
+                // Members
+                budget("POST /api/members", "TeamMemberController.createMember", 3 + ID_BLOCK,
+                        () -> post("/api/members").contentType(MediaType.APPLICATION_JSON)
+                                .content(json(Map.of("name", "New member", "email", unique("new") + "@example.com",
+                                        "role", "Developer", "teamId", team(0))))),
+                budget("POST /api/members/import (" + IMPORT_ROWS + " rows)", "TeamMemberController.importMembers",
+                        3 + 2 * ID_BLOCK,
+                        () -> multipart("/api/members/import")
+                                .file(new MockMultipartFile("file", "members.csv", "text/csv", importCsv()))),
+                budget("GET /api/members", "TeamMemberController.getAllMembers", 2 + VERSION_CHECK,
+                        () -> get("/api/members").accept(MediaType.APPLICATION_JSON)),
+                budget("GET /api/members (NDJSON)", "TeamMemberController.exportMembers", 2,
+                        () -> get("/api/members").accept("application/x-ndjson")),
+                budget("GET /api/members/page", "TeamMemberController.getMembersPage", 2 + VERSION_CHECK,
+                        () -> get("/api/members/page").param("size", "50")),
+                budget("GET /api/members/query?role&facets", "TeamMemberController.queryMembers", 3,
+                        () -> get("/api/members/query")
+                                .param("role", "Developer").param("facets", "true").param("size", "50")),
+                budget("GET /api/members/query?teamId&sort", "TeamMemberController.queryMembers", 2,
+                        () -> get("/api/members/query")
+                                .param("teamId", String.valueOf(team(0))).param("sort", "name")),
+                budget("GET /api/members/{id}", "TeamMemberController.getMemberById", 2 + VERSION_CHECK,
+                        () -> get("/api/members/{id}", member(0))),
+                budget("GET /api/members/{id} (304)", "TeamMemberController.getMemberById", VERSION_CHECK,
+                        () -> notModified(get("/api/members/{id}", member(0)))),
+                budget("GET /api/members/team/{teamId}", "TeamMemberController.getMembersByTeam", 3,
+                        () -> get("/api/members/team/{teamId}", team(0))),
+                budget("GET /api/members/role", "TeamMemberController.getMembersByRole", 2,
+                        () -> get("/api/members/role").param("role", "Developer")),
+                // Served from the in-memory prefix index
+                budget("GET /api/members/suggest", "TeamMemberController.suggestMembers", 0,
+                        () -> get("/api/members/suggest").param("prefix", "Mem")),
+                budget("GET /api/members/search", "TeamMemberController.searchMembers", 2,
+                        () -> get("/api/members/search").param("keyword", "Member")),
+                budget("GET /api/members/search?fuzzy=true", "TeamMemberController.searchMembers", 2,
+                        () -> get("/api/members/search").param("keyword", "Membr").param("fuzzy", "true")),
+                budget("PUT /api/members/{id}", "TeamMemberController.updateMember", 4,
+                        () -> put("/api/members/{id}", member(1)).contentType(MediaType.APPLICATION_JSON)
+                                .content(json(Map.of("name", unique("Renamed"), "email", "member0-1@example.com",
+                                        "role", "Developer", "teamId", team(0))))),
+                budget("PUT /api/members/by-email/{email} (update)", "TeamMemberController.upsertMemberByEmail", 3,
+                        () -> put("/api/members/by-email/{email}", "member0-2@example.com")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(Map.of("name", unique("Upserted"), "teamId", team(0))))),
+                budget("PUT /api/members/by-email/{email} (create)", "TeamMemberController.upsertMemberByEmail",
+                        4 + ID_BLOCK,
+                        () -> put("/api/members/by-email/{email}", unique("upserted") + "@example.com")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(Map.of("name", "Upserted", "teamId", team(0))))),
+                budget("PUT /api/members/{memberId}/assign/{teamId}", "TeamMemberController.assignToTeam", 4,
+                        () -> put("/api/members/{memberId}/assign/{teamId}", member(3), team(1))),
+                budget("PUT /api/members/{memberId}/remove-from-team", "TeamMemberController.removeFromTeam", 2,
+                        () -> put("/api/members/{memberId}/remove-from-team", member(4))),
+                budget("DELETE /api/members/{id}", "TeamMemberController.deleteMember", 2,
+                        () -> delete("/api/members/{id}", member(5))),
+
+                // Projects
+                budget("POST /api/projects", "ProjectController.createProject", 4 + ID_BLOCK,
+                        () -> post("/api/projects").contentType(MediaType.APPLICATION_JSON)
+                                .content(json(Map.of("name", unique("New project"), "teamIds", teamIds)))),
+                budget("GET /api/projects", "ProjectController.getAllProjects", 2 + VERSION_CHECK,
+                        () -> get("/api/projects")),
+                budget("GET /api/projects/page", "ProjectController.getProjectsPage", 3 + VERSION_CHECK,
+                        () -> get("/api/projects/page").param("size", "5")),
+                budget("GET /api/projects/{id}", "ProjectController.getProjectById", 2 + VERSION_CHECK,
+                        () -> get("/api/projects/{id}", project(0))),
+                budget("GET /api/projects/{id} (304)", "ProjectController.getProjectById", VERSION_CHECK,
+                        () -> notModified(get("/api/projects/{id}", project(0)))),
+                budget("GET /api/projects/team/{teamId}", "ProjectController.getProjectsByTeam", 3,
+                        () -> get("/api/projects/team/{teamId}", team(0))),
+                budget("GET /api/projects/search", "ProjectController.searchProjects", 2,
+                        () -> get("/api/projects/search").param("keyword", "Project")),
+                budget("PUT /api/projects/{id}", "ProjectController.updateProject", 5,
+                        () -> put("/api/projects/{id}", project(1)).contentType(MediaType.APPLICATION_JSON)
+                                .content(json(Map.of("name", "Project 1", "description", unique("Updated"),
+                                        "teamIds", teamIds)))),
+                budget("POST /api/projects/{projectId}/teams/{teamId}", "ProjectController.assignTeam", 5,
+                        () -> post("/api/projects/{projectId}/teams/{teamId}", project(2), team(0))),
+                budget("DELETE /api/projects/{projectId}/teams/{teamId}", "ProjectController.removeTeam", 4,
+                        () -> delete("/api/projects/{projectId}/teams/{teamId}", project(3), team(3))),
+                budget("DELETE /api/projects/{id}", "ProjectController.deleteProject", 4,
+                        () -> delete("/api/projects/{id}", project(4)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgets")
+    void staysWithinStatementBudget(Budget budget) throws Exception {
+        RequestBuilder request = budget.request().get();
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+
+        MvcResult[] results = new MvcResult[2];
+        long count = statements.count(() -> {
+            results[0] = mvc.perform(request).andReturn();
+            // Streaming responses are written after the handler returns
+            results[1] = results[0].getRequest().isAsyncStarted()
+                    ? mvc.perform(asyncDispatch(results[0])).andReturn()
+                    : results[0];
+        });
+
+        assertThat(handlerName(results[0])).isEqualTo(budget.handler());
+        assertThat(results[1].getResponse().getStatus()).as("HTTP status").isLessThan(400);
+        assertThat(count).as("SQL statements for %s", budget.name()).isLessThanOrEqualTo(budget.maxStatements());
+    }
+
+    @Test
+    void everyEndpointHasABudget() {
+        Set<String> endpoints = handlerMapping.getHandlerMethods().values().stream()
+                .filter(method -> method.getBeanType().getPackageName().equals(getClass().getPackageName()))
+                .map(EndpointQueryBudgetTests::handlerName)
+                .collect(Collectors.toSet());
+        Set<String> budgeted = budgets().map(Budget::handler).collect(Collectors.toSet());
+
+        assertThat(budgeted).containsExactlyInAnyOrderElementsOf(endpoints);
+    }
+
+    record Budget(String name, String handler, int maxStatements, RequestSupplier request) {
+
+        @Override
+        public String toString() {
+            return name + " <= " + maxStatements;
+        }
+    }
+
+    @FunctionalInterface
+    interface RequestSupplier {
+        RequestBuilder get();
+    }
+
+    private static Budget budget(String name, String handler, int maxStatements, RequestSupplier request) {
+        return new Budget(name, handler, maxStatements, request);
+    }
+
+    private static String handlerName(MvcResult result) {
+        return handlerName((HandlerMethod) result.getHandler());
+    }
+
+    private static String handlerName(HandlerMethod method) {
+        return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+    }
+
+    private long team(int index) {
+        return teamIds.get(index);
+    }
+
+    private long member(int index) {
+        return memberIds.get(index);
+    }
+
+    private long project(int index) {
+        return projectIds.get(index);
+    }
+
+    // Sends the current ETag, fetched outside the measured request
+    private MockHttpServletRequestBuilder notModified(MockHttpServletRequestBuilder request) {
+        try {
+            String eTag = mvc.perform(request).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            return request.header(HttpHeaders.IF_NONE_MATCH, Objects.requireNonNull(eTag));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String unique(String prefix) {
+        return prefix + "-" + (++uniqueSuffix);
+    }
+
+    // Created outside the measured request
+    private long createTeam() {
+        try {
+            return create("/api/teams", Map.of("name", unique("Disposable team")));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private byte[] importCsv() {
+        StringBuilder csv = new StringBuilder("name,email,role,teamId\n");
+        String batch = unique("import");
+        for (int i = 0; i < IMPORT_ROWS; i++) {
+            csv.append("Imported ").append(i).append(',')
+                    .append(batch).append('-').append(i).append("@example.com,Developer,")
+                    .append(team(i % TEAMS)).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long create(String path, Map<String, ?> body) throws Exception {
+        MvcResult result = mvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(json(body)))
+                .andReturn();
+        assertThat(result.getResponse().getStatus()).as("POST %s", path).isEqualTo(201);
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.desh.teammanagement.controller;
+
+import com.desh.teammanagement.service.SummaryCacheService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * PUT /api/members/by-email/{email}: creates, then updates the same member
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemberUpsertTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SummaryCacheService summaryCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private long teamId;
+    private long otherTeamId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        teamId = createTeam("Upsert team");
+        otherTeamId = createTeam("Upsert other team");
+    }
+
+    @Test
+    void createsThenUpdatesMemberWithEmail() throws Exception {
+        MvcResult created = upsert("upsert@example.com", body("Upsert member", "Analyst", teamId));
+        assertThat(created.getResponse().getStatus()).isEqualTo(201);
+        JsonNode member = objectMapper.readTree(created.getResponse().getContentAsString());
+        long memberId = member.get("id").asLong();
+        assertThat(member.get("email").asText()).isEqualTo("upsert@example.com");
+
+        // Both summaries cached, as member responses would have left them
+        summaryCache.getTeamSummary(teamId);
+        summaryCache.getTeamSummary(otherTeamId);
+
+        MvcResult updated = upsert("upsert@example.com", body("Upsert member renamed", "Tester", otherTeamId));
+        assertThat(updated.getResponse().getStatus()).isEqualTo(200);
+        member = objectMapper.readTree(updated.getResponse().getContentAsString());
+        assertThat(member.get("id").asLong()).isEqualTo(memberId);
+        assertThat(member.get("name").asText()).isEqualTo("Upsert member renamed");
+
+        JsonNode stored = objectMapper.readTree(mvc.perform(get("/api/members/{id}", memberId))
+                .andReturn().getResponse().getContentAsString());
+        assertThat(stored.get("role").asText()).isEqualTo("Tester");
+        assertThat(stored.toString()).contains("Upsert other team");
+
+        assertThat(cacheManager.getCache(SummaryCacheService.TEAM_SUMMARIES).get(teamId)).isNull();
+        assertThat(summaryCache.getTeamSummary(teamId).getMemberCount()).isZero();
+        assertThat(summaryCache.getTeamSummary(otherTeamId).getMemberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsInvalidEmail() throws Exception {
+        assertThat(upsert("not-an-email", body("Upsert invalid", "Analyst", teamId)).getResponse().getStatus())
+                .isEqualTo(400);
+    }
+
+    @Test
+    void rejectsUnknownTeam() throws Exception {
+        MvcResult result = upsert("upsert-unknown-team@example.com", body("Upsert unknown", "Analyst", Long.MAX_VALUE));
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(404);
+        assertThat(upsert("upsert-unknown-team@example.com", body("Upsert unknown", "Analyst", null))
+                .getResponse().getStatus()).isEqualTo(201);
+    }
+
+    private MvcResult upsert(String email, Map<String, Object> body) throws Exception {
+        return mvc.perform(put("/api/members/by-email/{email}", email).contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body))).andReturn();
+    }
+
+    private static Map<String, Object> body(String name, String role, Long teamId) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("name", name);
+        body.put("role", role);
+        body.put("teamId", teamId);
+        return body;
+    }
+
+    private long createTeam(String name) throws Exception {
+        MvcResult result = mvc.perform(post("/api/teams").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("name", name)))).andReturn();
+        assertThat(result.getResponse().getStatus()).isEqualTo(201);
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+}
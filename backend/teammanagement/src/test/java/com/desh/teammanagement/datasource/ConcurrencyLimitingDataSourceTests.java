@@ -0,0 +1,82 @@
+package com.desh.teammanagement.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitingDataSourceTests {
+
+    @Test
+    void blocksWhenAllPermitsAreTaken() throws Exception {
+        ConcurrencyLimitingDataSource dataSource = limited(2, Duration.ofSeconds(10));
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        CompletableFuture<Connection> third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dataSource.getQueueLength() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(dataSource.getQueueLength()).isEqualTo(1);
+        assertThat(third).isNotDone();
+
+        first.close();
+
+        assertThat(third.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(dataSource.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    void timesOutWaitingForPermit() throws Exception {
+        ConcurrencyLimitingDataSource dataSource = limited(1, Duration.ofMillis(50));
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.getQueueLength()).isZero();
+    }
+
+    @Test
+    void closingTwiceReleasesOnce() throws Exception {
+        ConcurrencyLimitingDataSource dataSource = limited(2, Duration.ofSeconds(1));
+        Connection connection = dataSource.getConnection();
+        dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void failedConnectReleasesPermit() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("down"));
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, Duration.ofSeconds(1));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("down");
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    private static ConcurrencyLimitingDataSource limited(int permits, Duration acquireTimeout) throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        return new ConcurrencyLimitingDataSource(target, permits, acquireTimeout);
+    }
+}
@@ -0,0 +1,107 @@
+package com.desh.teammanagement.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Read/write split on two H2 databases. Nothing replicates between them, so
+ * a row written to the primary is only found by reads that were routed there.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.replica-max-lag=1s",
+        "app.datasource.replica.jdbc-url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=sa"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadWriteRoutingTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void copySchemaToReplica() {
+        // Hibernate only creates the schema on the primary
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(statement -> statement.startsWith("CREATE") && !statement.startsWith("CREATE USER"))
+                .forEach(replica::execute);
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaAndOthersPrimary() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        String readOnlyDatabase = readOnly.execute(status -> jdbc.queryForObject("SELECT DATABASE()", String.class));
+        String readWriteDatabase = readWrite.execute(status -> jdbc.queryForObject("SELECT DATABASE()", String.class));
+
+        assertThat(readOnlyDatabase).isEqualToIgnoringCase("routing-replica");
+        assertThat(readWriteDatabase).isEqualToIgnoringCase("routing-primary");
+    }
+
+    @Test
+    void writeCookiePinsReadsToPrimaryUntilReplicaLagPasses() throws Exception {
+        MvcResult created = mvc.perform(post("/api/teams").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("name", "Routing team")))).andReturn();
+        assertThat(created.getResponse().getStatus()).isEqualTo(201);
+        long teamId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        Cookie pin = created.getResponse().getCookie(ReplicaRoutingContext.COOKIE_NAME);
+        assertThat(pin).isNotNull();
+
+        // Without the cookie the read goes to the replica, which never received the team
+        assertThat(status(get("/api/teams/{id}", teamId))).isEqualTo(404);
+        assertThat(status(get("/api/teams/{id}", teamId).cookie(pin))).isEqualTo(200);
+
+        Thread.sleep(1100);
+        assertThat(status(get("/api/teams/{id}", teamId).cookie(pin))).isEqualTo(404);
+    }
+
+    private int status(RequestBuilder request) throws Exception {
+        return mvc.perform(request).andReturn().getResponse().getStatus();
+    }
+}
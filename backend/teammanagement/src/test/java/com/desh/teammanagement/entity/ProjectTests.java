@@ -0,0 +1,66 @@
+package com.desh.teammanagement.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectTests {
+
+    @Test
+    void removeTeamUnlinksBothSidesAfterUpdatedAtMoved() {
+        Project project = project(1L);
+        Team team = team(1L);
+        project.addTeam(team);
+        project.setUpdatedAt(LocalDateTime.now().minusDays(1));
+        team.setUpdatedAt(LocalDateTime.now().minusDays(1));
+
+        project.removeTeam(team);
+
+        assertThat(project.getTeams()).isEmpty();
+        assertThat(team.getProjects()).isEmpty();
+    }
+
+    @Test
+    void unsavedProjectsStayDistinctAndFindableOncePersisted() {
+        Team team = team(1L);
+        Project first = new Project();
+        Project second = new Project();
+        first.addTeam(team);
+        second.addTeam(team);
+
+        assertThat(team.getProjects()).hasSize(2);
+
+        first.setId(10L);
+        second.setId(11L);
+        first.removeTeam(team);
+
+        assertThat(team.getProjects()).containsExactly(second);
+    }
+
+    @Test
+    void equalityFollowsIdOnly() {
+        Project project = project(1L);
+        Project sameRow = project(1L);
+        sameRow.setName("Renamed");
+        sameRow.setUpdatedAt(LocalDateTime.now());
+
+        assertThat(project).isEqualTo(sameRow).hasSameHashCodeAs(sameRow);
+        assertThat(project).isNotEqualTo(project(2L));
+    }
+
+    private static Project project(Long id) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName("Project " + id);
+        return project;
+    }
+
+    private static Team team(Long id) {
+        Team team = new Team();
+        team.setId(id);
+        team.setName("Team " + id);
+        return team;
+    }
+}
@@ -0,0 +1,73 @@
+package com.desh.teammanagement.exporter;
+
+import com.desh.teammanagement.repository.projection.ProjectLinkExportRow;
+import com.desh.teammanagement.repository.projection.TeamMemberExportRow;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XlsxTeamExportWriterTests {
+
+    @Test
+    void continuesOnNewSheetAtRowLimit() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XlsxTeamExportWriter writer = new XlsxTeamExportWriter(out, 3)) {
+            for (long i = 1; i <= 5; i++) {
+                writer.writeTeamMember(member(i));
+            }
+            writer.writeProjectLink(link(1L));
+            writer.finish();
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            List<String> names = new ArrayList<>();
+            workbook.forEach(sheet -> names.add(sheet.getSheetName()));
+            assertThat(names).containsExactly(
+                    "Teams & Members", "Teams & Members (2)", "Teams & Members (3)", "Project Links");
+
+            assertThat(memberIds(workbook.getSheet("Teams & Members"))).containsExactly(1.0, 2.0);
+            assertThat(memberIds(workbook.getSheet("Teams & Members (2)"))).containsExactly(3.0, 4.0);
+            assertThat(memberIds(workbook.getSheet("Teams & Members (3)"))).containsExactly(5.0);
+            assertThat(workbook.getSheet("Teams & Members (3)").getRow(0).getCell(3).getStringCellValue())
+                    .isEqualTo("Member ID");
+            assertThat(workbook.getSheet("Project Links").getLastRowNum()).isEqualTo(1);
+        }
+    }
+
+    private static List<Double> memberIds(Sheet sheet) {
+        List<Double> ids = new ArrayList<>();
+        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+            ids.add(sheet.getRow(i).getCell(3).getNumericCellValue());
+        }
+        return ids;
+    }
+
+    private static TeamMemberExportRow member(Long id) {
+        return new TeamMemberExportRow() {
+            public Long getTeamId() { return 1L; }
+            public String getTeamName() { return "Export Team"; }
+            public String getTeamDescription() { return null; }
+            public Long getMemberId() { return id; }
+            public String getMemberName() { return "Member " + id; }
+            public String getMemberEmail() { return "member" + id + "@example.com"; }
+            public String getMemberRole() { return "Analyst"; }
+        };
+    }
+
+    private static ProjectLinkExportRow link(Long id) {
+        return new ProjectLinkExportRow() {
+            public Long getProjectId() { return id; }
+            public String getProjectName() { return "Project " + id; }
+            public Long getTeamId() { return 1L; }
+            public String getTeamName() { return "Export Team"; }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.desh.teammanagement.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Server-Timing header and app.handler.* meters for a request
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class HandlerMetricsTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void jsonResponseCarriesServerTimingAndRecordsHandlerMeters() throws Exception {
+        MvcResult created = mvc.perform(post("/api/teams").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("name", "Metrics team")))).andReturn();
+        long teamId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        String handler = "TeamController.getTeamById";
+        long before = count("app.handler.duration", handler);
+
+        MvcResult result = mvc.perform(get("/api/teams/{id}", teamId)).andReturn();
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getHeader(ServerTimingAdvice.HEADER))
+                .matches("app;dur=[\\d.]+, db;dur=[\\d.]+;desc=\"[1-9]\\d* statements, \\d+ rows\", conn;dur=[\\d.]+");
+        assertThat(count("app.handler.duration", handler)).isEqualTo(before + 1);
+        for (String meter : new String[]{"app.handler.db.statements", "app.handler.db.rows"}) {
+            assertThat(registry.find(meter).tag("handler", handler).summary()).as(meter).isNotNull();
+        }
+        assertThat(registry.find("app.handler.db.connection.wait").tag("handler", handler).timer()).isNotNull();
+        assertThat(registry.find("app.handler.db.statements").tag("handler", handler).summary().max())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void streamingResponseIsTimedFromFirstDispatch() throws Exception {
+        String handler = "TeamController.exportTeamsCsv";
+
+        MvcResult started = mvc.perform(get("/api/teams/export.csv")).andReturn();
+        Thread.sleep(200);
+        mvc.perform(asyncDispatch(started)).andReturn();
+
+        Timer timer = registry.find("app.handler.duration").tag("handler", handler).timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        // The ASYNC dispatch must not restart the clock
+        assertThat(timer.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(200);
+    }
+
+    private long count(String name, String handler) {
+        Timer timer = registry.find(name).tag("handler", handler).timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.desh.teammanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The SQL Server MERGE only runs against SQL Server; this checks the
+ * statement it renders targets the table Hibernate actually created
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberUpsertRepositoryImplTests {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void mergeTargetsPhysicalMemberTable() {
+        String statement = new MemberUpsertRepositoryImpl(entityManager).mergeStatement();
+
+        assertThat(statement).contains("MERGE team_member WITH (HOLDLOCK) AS target")
+                .doesNotContain("TeamMember", "%s");
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM information_schema.tables"
+                + " WHERE LOWER(table_name) = 'team_member'", Integer.class)).isEqualTo(1);
+    }
+}
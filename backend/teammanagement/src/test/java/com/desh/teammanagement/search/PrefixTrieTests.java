@@ -0,0 +1,196 @@
+package com.desh.teammanagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTests {
+
+    @Test
+    void suggestsByPrefixIgnoringCase() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.put(1, "Anna Silva", "anna@example.com");
+        trie.put(2, "Ben Perera", "ben@example.com");
+
+        assertThat(trie.suggest("AN", 10)).containsExactly(1L);
+        assertThat(trie.suggest("ben p", 10)).containsExactly(2L);
+        assertThat(trie.suggest("x", 10)).isEmpty();
+        assertThat(trie.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void prefixEndingInsideAnEdgeMatches() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.put(1, "johnson");
+
+        // One edge "johnson": the prefix stops part-way along it
+        assertThat(trie.suggest("joh", 10)).containsExactly(1L);
+        assertThat(trie.suggest("johnsonx", 10)).isEmpty();
+        assertThat(trie.suggest("jox", 10)).isEmpty();
+    }
+
+    @Test
+    void splitsEdgeWhereTermsDiverge() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.put(1, "johnson");
+        trie.put(2, "johanna");
+        trie.put(3, "john");
+
+        assertThat(trie.suggest("joh", 10)).containsExactly(3L, 2L, 1L);
+        assertThat(trie.suggest("john", 10)).containsExactly(3L, 1L);
+        assertThat(trie.suggest("joha", 10)).containsExactly(2L);
+        assertThat(trie.suggest("johns", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void removeMergesEdgesBackAndKeepsOtherTerms() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.put(1, "johnson");
+        trie.put(2, "johanna");
+        trie.put(3, "john");
+
+        trie.remove(2);
+        assertThat(trie.suggest("joh", 10)).containsExactly(3L, 1L);
+        assertThat(trie.suggest("joha", 10)).isEmpty();
+
+        trie.remove(3);
+        assertThat(trie.suggest("jo", 10)).containsExactly(1L);
+        assertThat(trie.suggest("johns", 10)).containsExactly(1L);
+
+        trie.remove(1);
+        assertThat(trie.suggest("j", 10)).isEmpty();
+        assertThat(trie.size()).isZero();
+    }
+
+    @Test
+    void putReplacesPreviousTerms() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.put(1, "anna", "anna@example.com");
+        trie.put(1, "hanna");
+
+        assertThat(trie.suggest("ann", 10)).isEmpty();
+        assertThat(trie.suggest("han", 10)).containsExactly(1L);
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void ranksEarlierTermThenShorterTermThenAlphabetically() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.put(1, "zed", "sam@example.com");
+        trie.put(2, "samantha");
+        trie.put(3, "sam");
+        trie.put(4, "samuel");
+        trie.put(5, "samara");
+
+        // Name matches (rank 0) before the email match, then by length, then alphabetically
+        assertThat(trie.suggest("sam", 10)).containsExactly(3L, 5L, 4L, 2L, 1L);
+    }
+
+    @Test
+    void tiesOnSameTermBreakById() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.put(7, "lee");
+        trie.put(3, "lee");
+        trie.put(5, "lee");
+
+        assertThat(trie.suggest("le", 10)).containsExactly(3L, 5L, 7L);
+    }
+
+    @Test
+    void documentIsListedOnceForItsBestTerm() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.put(1, "mark", "mark@example.com", "manager");
+        trie.put(2, "martin");
+
+        assertThat(trie.suggest("ma", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void limitsResults() {
+        PrefixTrie trie = new PrefixTrie();
+        for (long id = 1; id <= 30; id++) {
+            trie.put(id, "member" + id);
+        }
+
+        assertThat(trie.suggest("member", 5)).hasSize(5);
+        assertThat(trie.suggest("member", 100)).hasSize(PrefixTrie.MAX_RESULTS);
+    }
+
+    @Test
+    void removingCachedEntryRecomputesTopFromSubtree() {
+        PrefixTrie trie = new PrefixTrie();
+        // More documents than a node caches, so removals must refill the list from below
+        for (long id = 1; id <= PrefixTrie.MAX_RESULTS + 5; id++) {
+            trie.put(id, "name" + (char) ('a' + id));
+        }
+
+        for (long id = 1; id <= 10; id++) {
+            trie.remove(id);
+        }
+
+        assertThat(trie.suggest("name", 100)).containsExactlyElementsOf(
+                LongStream.rangeClosed(11, PrefixTrie.MAX_RESULTS + 5).boxed().toList());
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomEdits() {
+        Random random = new Random(42);
+        PrefixTrie trie = new PrefixTrie();
+        Map<Long, String[]> documents = new HashMap<>();
+
+        for (int step = 0; step < 3000; step++) {
+            long id = 1 + random.nextInt(60);
+            if (random.nextInt(4) == 0) {
+                trie.remove(id);
+                documents.remove(id);
+            } else {
+                String[] terms = {randomTerm(random), randomTerm(random)};
+                trie.put(id, terms);
+                documents.put(id, terms);
+            }
+
+            String prefix = randomTerm(random).substring(0, 1 + random.nextInt(3));
+            assertThat(trie.suggest(prefix, PrefixTrie.MAX_RESULTS))
+                    .as("step %d, prefix %s", step, prefix)
+                    .containsExactlyElementsOf(bruteForce(documents, prefix));
+        }
+    }
+
+    private static String randomTerm(Random random) {
+        // A small alphabet so terms share prefixes and edges split and merge often
+        StringBuilder term = new StringBuilder();
+        int length = 3 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            term.append("abc".charAt(random.nextInt(3)));
+        }
+        return term.toString();
+    }
+
+    private static List<Long> bruteForce(Map<Long, String[]> documents, String prefix) {
+        record Match(long id, String term, int rank) {
+        }
+        List<Match> best = new ArrayList<>();
+        Comparator<Match> ranking = Comparator.comparingInt(Match::rank)
+                .thenComparingInt(match -> match.term().length())
+                .thenComparing(Match::term)
+                .thenComparingLong(Match::id);
+        documents.forEach((id, terms) -> {
+            List<String> distinct = terms[0].equals(terms[1]) ? List.of(terms[0]) : List.of(terms);
+            for (int rank = 0; rank < distinct.size(); rank++) {
+                if (distinct.get(rank).startsWith(prefix)) {
+                    best.add(new Match(id, distinct.get(rank), rank));
+                    return;
+                }
+            }
+        });
+        return best.stream().sorted(ranking).limit(PrefixTrie.MAX_RESULTS).map(Match::id).toList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.desh.teammanagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SymmetricDeleteIndexTests {
+
+    @Test
+    void findsWordsWithinAllowedEdits() {
+        SymmetricDeleteIndex index = new SymmetricDeleteIndex();
+        index.put(1, "John Smith");
+        index.put(2, "Jonathan Miller");
+
+        assertThat(index.search("john")).containsExactly(1L);
+        // Transposition, substitution, deletion and insertion each count as one edit
+        assertThat(index.search("jhon")).containsExactly(1L);
+        assertThat(index.search("smyth")).containsExactly(1L);
+        assertThat(index.search("smth")).containsExactly(1L);
+        assertThat(index.search("milller")).containsExactly(2L);
+        assertThat(index.search("SMITH")).containsExactly(1L);
+    }
+
+    @Test
+    void allowedEditsGrowWithWordLength() {
+        SymmetricDeleteIndex index = new SymmetricDeleteIndex();
+        index.put(1, "Al Bo Maria Christopher");
+
+        // None for two letters, one up to four, two beyond
+        assertThat(index.search("al")).containsExactly(1L);
+        assertThat(index.search("ai")).isEmpty();
+        assertThat(index.search("mria")).containsExactly(1L);
+        assertThat(index.search("mrra")).isEmpty();
+        assertThat(index.search("kristopher")).containsExactly(1L);
+        assertThat(index.search("kristofer")).isEmpty();
+    }
+
+    @Test
+    void everyQueryWordMustMatch() {
+        SymmetricDeleteIndex index = new SymmetricDeleteIndex();
+        index.put(1, "Anna Silva");
+        index.put(2, "Anna Perera");
+
+        assertThat(index.search("anna silva")).containsExactly(1L);
+        assertThat(index.search("ana perrera")).containsExactly(2L);
+        assertThat(index.search("anna costa")).isEmpty();
+    }
+
+    @Test
+    void ranksByTotalDistanceThenId() {
+        SymmetricDeleteIndex index = new SymmetricDeleteIndex();
+        index.put(3, "Marta");
+        index.put(1, "Marty");
+        index.put(2, "Martin");
+        index.put(4, "Marta");
+
+        assertThat(index.search("marta")).containsExactly(3L, 4L, 1L, 2L);
+    }
+
+    @Test
+    void putReplacesAndRemoveForgetsWords() {
+        SymmetricDeleteIndex index = new SymmetricDeleteIndex();
+        index.put(1, "Oscar");
+        index.put(2, "Oscar Walsh");
+
+        index.put(1, "Quinn");
+        assertThat(index.search("oscar")).containsExactly(2L);
+        assertThat(index.search("quin")).containsExactly(1L);
+
+        index.remove(2);
+        assertThat(index.search("oscar")).isEmpty();
+        assertThat(index.search("walsh")).isEmpty();
+        // Still indexed through the word's other document until that goes too
+        index.put(3, "Quinn Novak");
+        index.remove(1);
+        assertThat(index.search("quinn")).containsExactly(3L);
+    }
+
+    @Test
+    void emptyQueriesAndDocumentsMatchNothing() {
+        SymmetricDeleteIndex index = new SymmetricDeleteIndex();
+        index.put(1, "  ");
+        index.put(2, null);
+
+        assertThat(index.search("")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+        assertThat(index.search("-")).isEmpty();
+    }
+
+    @Test
+    void distanceIsOptimalStringAlignment() {
+        assertThat(SymmetricDeleteIndex.boundedDistance("john", "john", 2)).isZero();
+        assertThat(SymmetricDeleteIndex.boundedDistance("john", "jhon", 2)).isEqualTo(1);
+        assertThat(SymmetricDeleteIndex.boundedDistance("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(SymmetricDeleteIndex.boundedDistance("abcd", "badc", 2)).isEqualTo(2);
+        // A transposed pair cannot be edited again: 3, where unrestricted Damerau gives 2
+        assertThat(SymmetricDeleteIndex.boundedDistance("ca", "abc", 3)).isEqualTo(3);
+    }
+
+    @Test
+    void distanceStopsOnceBoundIsExceeded() {
+        assertThat(SymmetricDeleteIndex.boundedDistance("abcdef", "uvwxyz", 2)).isEqualTo(3);
+        assertThat(SymmetricDeleteIndex.boundedDistance("ab", "abcdef", 2)).isEqualTo(3);
+        assertThat(SymmetricDeleteIndex.boundedDistance("", "ab", 2)).isEqualTo(2);
+        assertThat(SymmetricDeleteIndex.boundedDistance("kitten", "sitting", 2)).isEqualTo(3);
+    }
+}
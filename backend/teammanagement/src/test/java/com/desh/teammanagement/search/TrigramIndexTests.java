@@ -0,0 +1,108 @@
+package com.desh.teammanagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTests {
+
+    @Test
+    void findsSubstringOfAnyFieldIgnoringCase() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "Anna Silva", "anna@example.com", "Designer");
+        index.put(2, "Ben Perera", "ben@example.com", null);
+
+        assertThat(index.search("SILV")).containsExactly(1L);
+        assertThat(index.search("example.com")).containsExactly(1L, 2L);
+        assertThat(index.search("sign")).containsExactly(1L);
+        assertThat(index.search("perera@")).isEmpty();
+    }
+
+    @Test
+    void intersectsPostingListsAndConfirmsCandidates() {
+        TrigramIndex index = new TrigramIndex();
+        // Both contain the grams of "abcd" ("abc", "bcd"), only one contains "abcd"
+        index.put(1, "xabcx", "xbcdx");
+        index.put(2, "zabcdz");
+        index.put(3, "bcd");
+
+        assertThat(index.search("abcd")).containsExactly(2L);
+        assertThat(index.search("bcd")).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("abcde")).isEmpty();
+    }
+
+    @Test
+    void shortKeywordsScanStoredFields() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(3, "Al");
+        index.put(1, "Sally");
+        index.put(2, "Bob");
+
+        assertThat(index.search("al")).containsExactly(1L, 3L);
+        assertThat(index.search("b")).containsExactly(2L);
+        assertThat(index.search("")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+    }
+
+    @Test
+    void putReplacesAndRemoveForgets() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "Oscar");
+        index.put(1, "Quinn");
+
+        assertThat(index.search("osc")).isEmpty();
+        assertThat(index.search("uin")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+
+        index.remove(1);
+        assertThat(index.search("uin")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void matchesContainsOverRandomDocuments() {
+        Random random = new Random(7);
+        TrigramIndex index = new TrigramIndex();
+        Map<Long, String[]> documents = new HashMap<>();
+
+        for (int step = 0; step < 2000; step++) {
+            long id = 1 + random.nextInt(80);
+            if (random.nextInt(5) == 0) {
+                index.remove(id);
+                documents.remove(id);
+            } else {
+                String[] fields = {randomText(random, 12), randomText(random, 8)};
+                index.put(id, fields);
+                documents.put(id, fields);
+            }
+
+            String keyword = randomText(random, 1 + random.nextInt(5));
+            assertThat(index.search(keyword)).as("step %d, keyword %s", step, keyword)
+                    .containsExactlyElementsOf(bruteForce(documents, keyword));
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append("abcAB".charAt(random.nextInt(5)));
+        }
+        return text.toString();
+    }
+
+    private static List<Long> bruteForce(Map<Long, String[]> documents, String keyword) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        return documents.entrySet().stream()
+                .filter(document -> document.getValue()[0].toLowerCase(Locale.ROOT).contains(needle)
+                        || document.getValue()[1].toLowerCase(Locale.ROOT).contains(needle))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+}
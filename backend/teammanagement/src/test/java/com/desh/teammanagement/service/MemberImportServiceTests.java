@@ -0,0 +1,67 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.dto.response.ImportRowErrorDTO;
+import com.desh.teammanagement.dto.response.MemberImportResultDTO;
+import com.desh.teammanagement.entity.Team;
+import com.desh.teammanagement.repository.TeamMemberRepository;
+import com.desh.teammanagement.repository.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Rows that only fail in the database are rejected on their own; the rest
+ * of their chunk is still imported
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberImportServiceTests {
+
+    @Autowired
+    private MemberImportService importService;
+
+    @Autowired
+    private TeamMemberRepository memberRepository;
+
+    @MockitoSpyBean
+    private TeamRepository teamRepository;
+
+    @Test
+    void rowFailingInDatabaseDoesNotRejectItsChunk() {
+        Team team = new Team();
+        team.setName("Import team");
+        long teamId = teamRepository.save(team).getId();
+        // A team deleted after the import read the team ids: its rows pass validation, then break the FK
+        long deletedTeamId = Long.MAX_VALUE;
+        List<Long> teamIds = new ArrayList<>(teamRepository.findAllIds());
+        teamIds.add(deletedTeamId);
+        doReturn(teamIds).when(teamRepository).findAllIds();
+
+        StringBuilder csv = new StringBuilder("name,email,role,teamId\n");
+        for (int i = 0; i < 10; i++) {
+            long rowTeamId = i == 6 ? deletedTeamId : teamId;
+            csv.append("Import member ").append(i).append(",import").append(i).append("@example.com,Analyst,")
+                    .append(rowTeamId).append('\n');
+        }
+
+        MemberImportResultDTO result = importService.importMembers(new MockMultipartFile(
+                "file", "members.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getTotalRows()).isEqualTo(10);
+        assertThat(result.getImportedRows()).isEqualTo(9);
+        assertThat(result.getFailedRows()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ImportRowErrorDTO::getEmail).containsExactly("import6@example.com");
+        assertThat(memberRepository.findExistingEmails(List.of("import0@example.com", "import6@example.com",
+                "import9@example.com"))).containsExactlyInAnyOrder("import0@example.com", "import9@example.com");
+    }
+}
@@ -0,0 +1,60 @@
+package com.desh.teammanagement.service;
+
+import com.desh.teammanagement.dto.request.TeamMemberRequestDTO;
+import com.desh.teammanagement.entity.TeamMember;
+import com.desh.teammanagement.repository.TeamMemberRepository;
+import com.desh.teammanagement.util.LikePatterns;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The database search used before the search index has loaded finds the
+ * same members as the index
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberSearchFallbackTests {
+
+    @Autowired
+    private TeamMemberService memberService;
+
+    @Autowired
+    private TeamMemberRepository memberRepository;
+
+    @Autowired
+    private SearchIndexService searchIndex;
+
+    @Test
+    void fallbackMatchesNameEmailAndRoleLikeIndex() {
+        memberService.createMember(new TeamMemberRequestDTO("Fallback Quintero", "fq@example.com", "Tester", null));
+        memberService.createMember(new TeamMemberRequestDTO("Fallback Other", "fallback.mail@example.com", null, null));
+        memberService.createMember(new TeamMemberRequestDTO("Fallback Third", "ft@example.com", "Archivist", null));
+
+        for (String keyword : List.of("quinter", "FALLBACK.MAIL", "archiv", "fallback")) {
+            List<Long> fromDatabase = memberRepository.searchMembers(LikePatterns.escape(keyword)).stream().map(TeamMember::getId).toList();
+
+            assertThat(fromDatabase).as(keyword).isNotEmpty()
+                    .containsExactlyElementsOf(searchIndex.searchMemberIds(keyword));
+        }
+    }
+
+    @Test
+    void fallbackMatchesWildcardCharactersLiterally() {
+        memberService.createMember(new TeamMemberRequestDTO("Wildcard 100% Kowalczyk", "wild_card@example.com", "Ops[EU]", null));
+        memberService.createMember(new TeamMemberRequestDTO("Wildcard 1000 Kowalczyk", "wildxcard@example.com", "OpsE", null));
+
+        for (String keyword : List.of("100%", "wild_card", "ops[eu]", "100% kowal")) {
+            List<Long> fromDatabase = memberRepository.searchMembers(LikePatterns.escape(keyword)).stream()
+                    .map(TeamMember::getId).toList();
+
+            assertThat(fromDatabase).as(keyword).hasSize(1)
+                    .containsExactlyElementsOf(searchIndex.searchMemberIds(keyword));
+        }
+    }
+}
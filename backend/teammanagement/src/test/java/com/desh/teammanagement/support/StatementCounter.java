@@ -0,0 +1,37 @@
+package com.desh.teammanagement.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Counts the JDBC statements Hibernate prepares while an action runs, on any
+ * thread (streaming exports write from the async executor)
+ *
+ * All database access in the application goes through Hibernate, so this is
+ * every statement. A JDBC batch counts once. Requires
+ * hibernate.generate_statistics=true (application-test.properties) and
+ * tests that do not run concurrently with other database work.
+ */
+public class StatementCounter {
+
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("Set spring.jpa.properties.hibernate.generate_statistics=true");
+        }
+    }
+
+    public long count(Action action) throws Exception {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
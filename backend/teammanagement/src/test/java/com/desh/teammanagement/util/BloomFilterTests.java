@@ -0,0 +1,65 @@
+package com.desh.teammanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTests {
+
+    @Test
+    void containsEveryAddedValue() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("member" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("member" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    void rejectsMostValuesNotAdded() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("member" + i + "@example.com");
+        }
+
+        long falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void reAddingValuesDoesNotSaturate() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        for (int i = 0; i < 100; i++) {
+            filter.put("member" + i + "@example.com");
+        }
+
+        // A nightly sync re-records every existing value
+        for (int sync = 0; sync < 5; sync++) {
+            for (int i = 0; i < 100; i++) {
+                assertThat(filter.put("member" + i + "@example.com")).isFalse();
+            }
+        }
+
+        assertThat(filter.isSaturated()).isFalse();
+        assertThat(filter.mightContain("new@example.com")).isFalse();
+    }
+
+    @Test
+    void saturatesPastCapacity() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        for (int i = 0; i < 200; i++) {
+            filter.put("member" + i + "@example.com");
+        }
+
+        assertThat(filter.isSaturated()).isTrue();
+        assertThat(filter.mightContain("anything")).isTrue();
+    }
+}
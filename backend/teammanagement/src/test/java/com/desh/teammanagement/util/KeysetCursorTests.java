@@ -0,0 +1,127 @@
+package com.desh.teammanagement.util;
+
+import com.desh.teammanagement.dto.response.CursorPageResponseDTO;
+import com.desh.teammanagement.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTests {
+
+    @Test
+    void idCursorRoundTrips() {
+        for (long id : new long[]{1, 42, Long.MAX_VALUE}) {
+            String cursor = KeysetCursor.encode(id);
+
+            assertThat(cursor).doesNotContain("=", "+", "/");
+            assertThat(KeysetCursor.decode(cursor)).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void missingIdCursorStartsFromBeginning() {
+        assertThat(KeysetCursor.decode(null)).isZero();
+        assertThat(KeysetCursor.decode(" ")).isZero();
+    }
+
+    @Test
+    void rejectsMalformedIdCursor() {
+        for (String cursor : List.of("not base64!", token("v1:"), token("v1:abc"), token("v2:5"), token("5"),
+                KeysetCursor.encodeSorted("name", "Anna", 5L))) {
+            assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                    .as(cursor)
+                    .isInstanceOf(InvalidOperationException.class)
+                    .hasMessage("Invalid page cursor");
+        }
+    }
+
+    @Test
+    void rejectsTamperedIdCursor() {
+        String cursor = KeysetCursor.encode(42L);
+        char[] chars = cursor.toCharArray();
+        chars[0] = chars[0] == 'A' ? 'B' : 'A';
+
+        assertThatThrownBy(() -> KeysetCursor.decode(new String(chars)))
+                .isInstanceOf(InvalidOperationException.class);
+    }
+
+    @Test
+    void pageHasCursorOfLastRowOnlyWhenMoreRowsExist() {
+        CursorPageResponseDTO<String> page = KeysetCursor.toPage(List.of(1L, 2L, 3L), 2, id -> id, String::valueOf);
+
+        assertThat(page.getItems()).containsExactly("1", "2");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor())).isEqualTo(2L);
+
+        CursorPageResponseDTO<String> last = KeysetCursor.toPage(List.of(3L), 2, id -> id, String::valueOf);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void resolvesPageSize() {
+        assertThat(KeysetCursor.resolvePageSize(null)).isEqualTo(KeysetCursor.DEFAULT_PAGE_SIZE);
+        assertThat(KeysetCursor.resolvePageSize(10)).isEqualTo(10);
+        assertThat(KeysetCursor.resolvePageSize(10_000)).isEqualTo(KeysetCursor.MAX_PAGE_SIZE);
+        assertThatThrownBy(() -> KeysetCursor.resolvePageSize(0)).isInstanceOf(InvalidOperationException.class);
+    }
+
+    @Test
+    void sortedCursorRoundTrips() {
+        // Values may contain the separator; the id field never does
+        for (String value : List.of("Anna Silva", "a:b:c", "Müller", "")) {
+            String cursor = KeysetCursor.encodeSorted("name", value, 17L);
+
+            assertThat(KeysetCursor.decodeSorted(cursor, "name"))
+                    .isEqualTo(new KeysetCursor.SortedPosition(value, 17L));
+        }
+    }
+
+    @Test
+    void nullSortValueDecodesAsEmpty() {
+        String cursor = KeysetCursor.encodeSorted("role", null, 3L);
+
+        assertThat(KeysetCursor.decodeSorted(cursor, "role")).isEqualTo(new KeysetCursor.SortedPosition("", 3L));
+        assertThat(KeysetCursor.decodeSorted(null, "role")).isNull();
+    }
+
+    @Test
+    void rejectsSortedCursorOfAnotherSort() {
+        String cursor = KeysetCursor.encodeSorted("name", "Anna", 5L);
+
+        assertThatThrownBy(() -> KeysetCursor.decodeSorted(cursor, "email"))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessageContaining("'name'");
+    }
+
+    @Test
+    void rejectsMalformedSortedCursor() {
+        for (String cursor : List.of("not base64!", token("s1:name"), token("s1:name:5"), token("s1:name:x:Anna"),
+                token("s2:name:5:Anna"), KeysetCursor.encode(5L))) {
+            assertThatThrownBy(() -> KeysetCursor.decodeSorted(cursor, "name"))
+                    .as(cursor)
+                    .isInstanceOf(InvalidOperationException.class)
+                    .hasMessage("Invalid page cursor");
+        }
+    }
+
+    @Test
+    void rejectsTamperedSortedCursor() {
+        String raw = new String(Base64.getUrlDecoder().decode(KeysetCursor.encodeSorted("name", "Anna", 5L)),
+                StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> KeysetCursor.decodeSorted(token(raw.replace(":5:", ":5x:")), "name"))
+                .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> KeysetCursor.decodeSorted(token(raw.replace("s1:name", "s1:email")), "name"))
+                .isInstanceOf(InvalidOperationException.class);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
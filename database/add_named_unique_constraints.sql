@@ -0,0 +1,50 @@
+-- ============================================
+-- MIGRATION: named unique constraints on member email, team name, project name
+-- ============================================
+--
+-- The create/update paths now skip the "already exists" query for values a
+-- Bloom filter rules out, and rely on these constraints to reject a
+-- duplicate that slips past it. The application recognises them by name
+-- (UK_TeamMember_email, UK_Team_name, UK_Project_name), so the unnamed
+-- unique key Hibernate generated for TeamMember.email is replaced. Tables
+-- are named as the naming strategy creates them (team, team_member,
+-- project); the constraint names are used as declared.
+--
+-- Run once, with the application stopped, BEFORE deploying the new version:
+--   sqlcmd -S localhost\SQLEXPRESS -d TeamManagementDB -i add_named_unique_constraints.sql
+--
+-- The script fails without changing anything if duplicate team or project
+-- names already exist; rename those rows first. Fresh databases do not need
+-- it: ddl-auto=update creates the constraints.
+-- ============================================
+
+SET XACT_ABORT ON;
+BEGIN TRANSACTION;
+
+-- 1. Refuse to run over existing duplicates
+IF EXISTS (SELECT name FROM team GROUP BY name HAVING COUNT(*) > 1)
+    THROW 50001, 'Duplicate team names exist, rename them before adding UK_Team_name', 1;
+IF EXISTS (SELECT name FROM project GROUP BY name HAVING COUNT(*) > 1)
+    THROW 50002, 'Duplicate project names exist, rename them before adding UK_Project_name', 1;
+
+-- 2. Drop the generated unique key on team_member.email
+DECLARE @sql NVARCHAR(MAX) = N'';
+SELECT @sql = @sql + N'ALTER TABLE team_member DROP CONSTRAINT ' + QUOTENAME(kc.name) + N';' + CHAR(10)
+FROM sys.key_constraints kc
+JOIN sys.index_columns ic ON ic.object_id = kc.parent_object_id AND ic.index_id = kc.unique_index_id
+JOIN sys.columns c ON c.object_id = ic.object_id AND c.column_id = ic.column_id
+WHERE kc.type = 'UQ'
+  AND kc.parent_object_id = OBJECT_ID(N'team_member')
+  AND c.name = N'email'
+  AND kc.name <> N'UK_TeamMember_email';
+EXEC sp_executesql @sql;
+
+-- 3. Add the named constraints
+IF OBJECT_ID(N'UK_TeamMember_email', N'UQ') IS NULL
+    ALTER TABLE team_member ADD CONSTRAINT UK_TeamMember_email UNIQUE (email);
+IF OBJECT_ID(N'UK_Team_name', N'UQ') IS NULL
+    ALTER TABLE team ADD CONSTRAINT UK_Team_name UNIQUE (name);
+IF OBJECT_ID(N'UK_Project_name', N'UQ') IS NULL
+    ALTER TABLE project ADD CONSTRAINT UK_Project_name UNIQUE (name);
+
+COMMIT TRANSACTION;
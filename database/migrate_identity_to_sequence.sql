@@ -0,0 +1,105 @@
+-- ============================================
+-- MIGRATION: IDENTITY columns -> pooled sequences
+-- ============================================
+--
+-- Team, TeamMember and Project now take their ids from sequences
+-- (team_seq, team_member_seq, project_seq, INCREMENT BY 50) so Hibernate can
+-- send inserts as JDBC batches. Databases created before that change still
+-- have IDENTITY id columns, which reject the ids Hibernate now supplies.
+--
+-- Object names are the physical ones Hibernate creates: the naming strategy
+-- turns @Table(name = "TeamMember") into team_member and @JoinTable
+-- Project_Team into project_team.
+--
+-- SQL Server cannot drop the IDENTITY property from a column, so each table
+-- is rebuilt with a plain BIGINT id and the existing rows (and ids) copied
+-- across. Each sequence starts far enough above MAX(id) that Hibernate's
+-- pooled optimizer (which hands out the 50 ids ending at the sequence value)
+-- never reuses an existing id.
+--
+-- Run once, with the application stopped, BEFORE deploying the new version:
+--   sqlcmd -S localhost\SQLEXPRESS -d TeamManagementDB -i migrate_identity_to_sequence.sql
+--
+-- Fresh databases do not need this script: ddl-auto=update creates the
+-- sequences and tables with the right definitions.
+-- ============================================
+
+SET XACT_ABORT ON;
+BEGIN TRANSACTION;
+
+-- 1. Drop foreign keys that point at (or live on) the tables being rebuilt
+DECLARE @sql NVARCHAR(MAX) = N'';
+SELECT @sql = @sql + N'ALTER TABLE ' + QUOTENAME(OBJECT_NAME(fk.parent_object_id))
+        + N' DROP CONSTRAINT ' + QUOTENAME(fk.name) + N';' + CHAR(10)
+FROM sys.foreign_keys fk
+WHERE OBJECT_NAME(fk.parent_object_id) IN (N'team_member', N'project_team')
+   OR OBJECT_NAME(fk.referenced_object_id) IN (N'team', N'team_member', N'project');
+EXEC sp_executesql @sql;
+
+-- 2. Rebuild team without IDENTITY
+CREATE TABLE team_migrated (
+    id          BIGINT        NOT NULL PRIMARY KEY,
+    name        VARCHAR(100)  NOT NULL,
+    description VARCHAR(500)  NULL,
+    created_at  DATETIME2(6)  NULL,
+    updated_at  DATETIME2(6)  NULL
+);
+INSERT INTO team_migrated (id, name, description, created_at, updated_at)
+SELECT id, name, description, created_at, updated_at FROM team;
+DROP TABLE team;
+EXEC sp_rename N'team_migrated', N'team';
+
+-- 3. Rebuild team_member without IDENTITY
+CREATE TABLE team_member_migrated (
+    id         BIGINT        NOT NULL PRIMARY KEY,
+    name       VARCHAR(100)  NOT NULL,
+    email      VARCHAR(100)  NOT NULL UNIQUE,
+    role       VARCHAR(50)   NULL,
+    team_id    BIGINT        NULL,
+    created_at DATETIME2(6)  NULL,
+    updated_at DATETIME2(6)  NULL
+);
+INSERT INTO team_member_migrated (id, name, email, role, team_id, created_at, updated_at)
+SELECT id, name, email, role, team_id, created_at, updated_at FROM team_member;
+DROP TABLE team_member;
+EXEC sp_rename N'team_member_migrated', N'team_member';
+
+-- 4. Rebuild project without IDENTITY
+CREATE TABLE project_migrated (
+    id          BIGINT        NOT NULL PRIMARY KEY,
+    name        VARCHAR(100)  NOT NULL,
+    description VARCHAR(500)  NULL,
+    created_at  DATETIME2(6)  NULL,
+    updated_at  DATETIME2(6)  NULL
+);
+INSERT INTO project_migrated (id, name, description, created_at, updated_at)
+SELECT id, name, description, created_at, updated_at FROM project;
+DROP TABLE project;
+EXEC sp_rename N'project_migrated', N'project';
+
+-- 5. Restore foreign keys
+ALTER TABLE team_member
+    ADD CONSTRAINT FK_TeamMember_Team FOREIGN KEY (team_id) REFERENCES team (id);
+ALTER TABLE project_team
+    ADD CONSTRAINT FK_ProjectTeam_Project FOREIGN KEY (project_id) REFERENCES project (id);
+ALTER TABLE project_team
+    ADD CONSTRAINT FK_ProjectTeam_Team FOREIGN KEY (team_id) REFERENCES team (id);
+
+-- 6. Create the sequences above the current max ids
+DECLARE @teamStart BIGINT = (SELECT ISNULL(MAX(id), 0) + 50 FROM team);
+DECLARE @memberStart BIGINT = (SELECT ISNULL(MAX(id), 0) + 50 FROM team_member);
+DECLARE @projectStart BIGINT = (SELECT ISNULL(MAX(id), 0) + 50 FROM project);
+
+SET @sql = N'CREATE SEQUENCE team_seq AS BIGINT START WITH '
+        + CAST(@teamStart AS NVARCHAR(20)) + N' INCREMENT BY 50;';
+EXEC sp_executesql @sql;
+
+SET @sql = N'CREATE SEQUENCE team_member_seq AS BIGINT START WITH '
+        + CAST(@memberStart AS NVARCHAR(20)) + N' INCREMENT BY 50;';
+EXEC sp_executesql @sql;
+
+SET @sql = N'CREATE SEQUENCE project_seq AS BIGINT START WITH '
+        + CAST(@projectStart AS NVARCHAR(20)) + N' INCREMENT BY 50;';
+EXEC sp_executesql @sql;
+
+COMMIT TRANSACTION;